@@ -0,0 +1,187 @@
+package com.veltium.analyzer;
+
+import com.veltium.session.SessionReader;
+import com.veltium.session.SessionSample;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.ToIntFunction;
+
+/**
+ * Offline analysis of {@code .vses} session files.
+ * <pre>
+ * SessionAnalyzer [--hitch-ms N] [--top N] session.vses            summary and hitch list
+ * SessionAnalyzer [--hitch-ms N] before.vses after.vses            side-by-side comparison
+ * </pre>
+ * Run through Gradle with {@code ./gradlew analyzeSession --args="..."}.
+ */
+public final class SessionAnalyzer {
+	private static final DateTimeFormatter START_FORMAT =
+			DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.systemDefault());
+
+	private SessionAnalyzer() {}
+
+	public static void main(String[] args) throws IOException {
+		int hitchMillis = 50;
+		int top = 20;
+		List<Path> files = new ArrayList<>();
+
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+				case "--hitch-ms" -> hitchMillis = Integer.parseInt(args[++i]);
+				case "--top" -> top = Integer.parseInt(args[++i]);
+				default -> files.add(Path.of(args[i]));
+			}
+		}
+
+		if (files.size() == 1) {
+			Summary summary = Summary.of(SessionReader.read(files.get(0)), hitchMillis);
+			printSummary(files.get(0), summary);
+			printHitches(summary, top);
+		} else if (files.size() == 2) {
+			Summary before = Summary.of(SessionReader.read(files.get(0)), hitchMillis);
+			Summary after = Summary.of(SessionReader.read(files.get(1)), hitchMillis);
+			printComparison(files.get(0), before, files.get(1), after);
+		} else {
+			System.err.println("Usage: SessionAnalyzer [--hitch-ms N] [--top N] <session.vses> [other.vses]");
+			System.exit(2);
+		}
+	}
+
+	private record Summary(SessionReader.Session session, double durationSeconds,
+						   double fpsAvg, double fpsP50, double fpsLow1, double fpsLow01,
+						   double frameP50, double frameP99, double frameP999, double worstFrame,
+						   double memoryAvg, double memoryMax, double pingAvg, double pingP95,
+						   double msptAvg, double msptP95, List<SessionSample> hitches, int hitchMillis) {
+
+		static Summary of(SessionReader.Session session, int hitchMillis) {
+			List<SessionSample> samples = session.samples();
+			if (samples.isEmpty()) throw new IllegalArgumentException("Session has no samples");
+
+			double duration = (samples.get(samples.size() - 1).timestampMillis() - samples.get(0).timestampMillis()) / 1000.0;
+			int[] fps = sorted(samples, SessionSample::fps);
+			int[] frames = sorted(samples, SessionSample::frameTimeMicros);
+			int[] worst = sorted(samples, SessionSample::worstFrameMicros);
+			int[] memory = sorted(samples, SessionSample::usedMemoryMiB);
+			int[] ping = sorted(samples, SessionSample::ping);
+			int[] mspt = samples.stream().mapToInt(SessionSample::serverMsptTenths).filter(v -> v > 0).sorted().toArray();
+
+			List<SessionSample> hitches = samples.stream()
+					.filter(s -> s.worstFrameMicros() >= hitchMillis * 1000)
+					.sorted(Comparator.comparingInt(SessionSample::worstFrameMicros).reversed())
+					.toList();
+
+			return new Summary(session, duration,
+					average(fps), percentile(fps, 0.50), percentile(fps, 0.01), percentile(fps, 0.001),
+					percentile(frames, 0.50) / 1000.0, percentile(frames, 0.99) / 1000.0,
+					percentile(frames, 0.999) / 1000.0, worst[worst.length - 1] / 1000.0,
+					average(memory), memory[memory.length - 1], average(ping), percentile(ping, 0.95),
+					mspt.length == 0 ? 0 : average(mspt) / 10.0, mspt.length == 0 ? 0 : percentile(mspt, 0.95) / 10.0,
+					hitches, hitchMillis);
+		}
+
+		double hitchesPerMinute() {
+			return durationSeconds > 0 ? hitches.size() * 60.0 / durationSeconds : 0;
+		}
+	}
+
+	private static void printSummary(Path file, Summary s) {
+		SessionReader.Session session = s.session();
+		System.out.printf(Locale.ROOT, "%s%n", file);
+		System.out.printf(Locale.ROOT, "  %s, started %s, %s, %d samples%n",
+				session.label(), START_FORMAT.format(Instant.ofEpochMilli(session.startMillis())),
+				duration(s.durationSeconds()), session.samples().size());
+		System.out.printf(Locale.ROOT, "  FPS         avg %.1f | median %.0f | 1%% low %.0f | 0.1%% low %.0f%n",
+				s.fpsAvg(), s.fpsP50(), s.fpsLow1(), s.fpsLow01());
+		System.out.printf(Locale.ROOT, "  Frame time  p50 %.2fms | p99 %.2fms | p99.9 %.2fms | worst %.1fms%n",
+				s.frameP50(), s.frameP99(), s.frameP999(), s.worstFrame());
+		System.out.printf(Locale.ROOT, "  Memory      avg %.0f MiB | max %.0f MiB%n", s.memoryAvg(), s.memoryMax());
+		System.out.printf(Locale.ROOT, "  Ping        avg %.0fms | p95 %.0fms%n", s.pingAvg(), s.pingP95());
+		if (s.msptAvg() > 0) {
+			System.out.printf(Locale.ROOT, "  Server tick avg %.1fms | p95 %.1fms%n", s.msptAvg(), s.msptP95());
+		}
+		System.out.printf(Locale.ROOT, "  Hitches     %d over %dms (%.2f/min)%n",
+				s.hitches().size(), s.hitchMillis(), s.hitchesPerMinute());
+	}
+
+	private static void printHitches(Summary s, int top) {
+		if (s.hitches().isEmpty()) return;
+		long start = s.session().samples().get(0).timestampMillis();
+
+		System.out.println();
+		System.out.printf(Locale.ROOT, "  Worst %d hitches%n", Math.min(top, s.hitches().size()));
+		System.out.println("     at        frame     fps   memory   ping");
+		for (SessionSample hitch : s.hitches().subList(0, Math.min(top, s.hitches().size()))) {
+			System.out.printf(Locale.ROOT, "  %9s  %7.1fms  %5d  %5d MiB  %4dms%n",
+					duration((hitch.timestampMillis() - start) / 1000.0),
+					hitch.worstFrameMicros() / 1000.0, hitch.fps(), hitch.usedMemoryMiB(), hitch.ping());
+		}
+	}
+
+	private static void printComparison(Path beforeFile, Summary before, Path afterFile, Summary after) {
+		System.out.printf(Locale.ROOT, "A: %s (%s, %s)%n", beforeFile, before.session().label(), duration(before.durationSeconds()));
+		System.out.printf(Locale.ROOT, "B: %s (%s, %s)%n%n", afterFile, after.session().label(), duration(after.durationSeconds()));
+		System.out.printf(Locale.ROOT, "  %-22s %12s %12s %9s%n", "metric", "A", "B", "change");
+
+		// true = higher is better
+		row("FPS avg", before.fpsAvg(), after.fpsAvg(), true);
+		row("FPS 1% low", before.fpsLow1(), after.fpsLow1(), true);
+		row("FPS 0.1% low", before.fpsLow01(), after.fpsLow01(), true);
+		row("Frame p50 (ms)", before.frameP50(), after.frameP50(), false);
+		row("Frame p99 (ms)", before.frameP99(), after.frameP99(), false);
+		row("Frame p99.9 (ms)", before.frameP999(), after.frameP999(), false);
+		row("Worst frame (ms)", before.worstFrame(), after.worstFrame(), false);
+		row("Hitches / min", before.hitchesPerMinute(), after.hitchesPerMinute(), false);
+		row("Memory avg (MiB)", before.memoryAvg(), after.memoryAvg(), false);
+		row("Memory max (MiB)", before.memoryMax(), after.memoryMax(), false);
+		row("Ping avg (ms)", before.pingAvg(), after.pingAvg(), false);
+		if (before.msptAvg() > 0 || after.msptAvg() > 0) {
+			row("Server tick avg (ms)", before.msptAvg(), after.msptAvg(), false);
+			row("Server tick p95 (ms)", before.msptP95(), after.msptP95(), false);
+		}
+	}
+
+	private static void row(String name, double a, double b, boolean higherIsBetter) {
+		String change;
+		if (a == 0) {
+			change = b == 0 ? "=" : "new";
+		} else {
+			double percent = (b - a) / a * 100.0;
+			boolean better = higherIsBetter ? percent > 0 : percent < 0;
+			change = String.format(Locale.ROOT, "%+.1f%%%s", percent, Math.abs(percent) < 1 ? "" : better ? " +" : " -");
+		}
+		System.out.printf(Locale.ROOT, "  %-22s %12.2f %12.2f %9s%n", name, a, b, change);
+	}
+
+	private static int[] sorted(List<SessionSample> samples, ToIntFunction<SessionSample> field) {
+		int[] values = samples.stream().mapToInt(field).toArray();
+		Arrays.sort(values);
+		return values;
+	}
+
+	private static double percentile(int[] sorted, double fraction) {
+		int index = (int) Math.ceil(sorted.length * fraction) - 1;
+		return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+	}
+
+	private static double average(int[] values) {
+		long total = 0;
+		for (int value : values) total += value;
+		return (double) total / values.length;
+	}
+
+	private static String duration(double seconds) {
+		long total = (long) seconds;
+		return total >= 3600
+				? String.format(Locale.ROOT, "%d:%02d:%02d", total / 3600, total / 60 % 60, total % 60)
+				: String.format(Locale.ROOT, "%d:%02d", total / 60, total % 60);
+	}
+}
@@ -0,0 +1,55 @@
+package com.veltium;
+
+import com.veltium.config.YACLConfig;
+import net.minecraft.client.Minecraft;
+
+/**
+ * Throttles the client while its window is in the background. Focus and iconify state come
+ * from the GLFW window callbacks the game already tracks and are read once per frame from
+ * {@code MinecraftMixin}. The frame cap is applied in
+ * {@code FramerateLimitTracker}, and world and HUD rendering are skipped while minimized.
+ *
+ * <p>An unfocused but visible window (a second monitor, behind a streaming overlay) keeps its
+ * HUD, telemetry and session recording; Veltium only refreshes them less often there.
+ */
+public final class PowerSaver {
+    public enum State { ACTIVE, BACKGROUND, MINIMIZED }
+
+    private static volatile State state = State.ACTIVE;
+
+    private PowerSaver() {}
+
+    public static State state() {
+        return state;
+    }
+
+    /** True while the window is minimized and nothing Veltium draws can be seen. */
+    public static boolean isMinimized() {
+        return state == State.MINIMIZED;
+    }
+
+    /** True while the window is visible but unfocused: keep working, at a lower rate. */
+    public static boolean isThrottled() {
+        return state == State.BACKGROUND;
+    }
+
+    public static void update(Minecraft client, YACLConfig config) {
+        if (!config.modEnabled || !config.powerSaverEnabled) {
+            state = State.ACTIVE;
+        } else if (client.getWindow().isMinimized()) {
+            state = State.MINIMIZED;
+        } else if (!client.isWindowActive()) {
+            state = State.BACKGROUND;
+        } else {
+            state = State.ACTIVE;
+        }
+    }
+
+    public static int limitFramerate(int limit, YACLConfig config) {
+        return state == State.ACTIVE ? limit : Math.min(limit, config.backgroundFpsLimit);
+    }
+
+    public static boolean skipRendering(YACLConfig config) {
+        return state == State.MINIMIZED && config.skipRenderWhenMinimized;
+    }
+}
@@ -0,0 +1,120 @@
+package com.veltium.config;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Writes the config file off the render thread. Each {@link #submit} replaces the pending
+ * contents and restarts a short debounce window, so dragging a slider or applying a page of
+ * Sodium options ends in a single write. A steady stream of saves is still written at least
+ * every {@link #MAX_DELAY_MILLIS}.
+ *
+ * <p>Writes go to a sibling temp file, are forced to disk and then moved over the real file,
+ * so a crash leaves either the old or the new config, never a truncated one.
+ */
+final class ConfigSaver {
+    private static final long DEBOUNCE_MILLIS = 250;
+    private static final long MAX_DELAY_MILLIS = 2000;
+    private static final long FLUSH_TIMEOUT_SECONDS = 5;
+
+    private ScheduledExecutorService executor;
+    private ScheduledFuture<?> task;
+    private Path pendingPath;
+    private String pendingJson;
+    private boolean pendingNotify;
+    private long pendingSince;
+
+    /** Queues {@code json} for {@code path}, replacing anything not yet written. */
+    synchronized void submit(Path path, String json, boolean notify) {
+        long now = System.currentTimeMillis();
+        if (pendingJson == null) pendingSince = now;
+        pendingPath = path;
+        pendingJson = json;
+        pendingNotify = notify;
+
+        if (task != null) {
+            if (now - pendingSince >= MAX_DELAY_MILLIS) return;
+            task.cancel(false);
+        }
+        task = executor().schedule(this::drain, DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /** Writes any pending contents now and waits for them to reach disk; used on shutdown. */
+    void flush() {
+        ScheduledExecutorService current;
+        synchronized (this) {
+            if (executor == null) return;
+            if (task != null) task.cancel(false);
+            task = null;
+            current = executor;
+        }
+        // Running the drain on the I/O thread keeps it ordered after a write already in progress
+        try {
+            current.submit(this::drain).get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            System.err.println("Veltium: config flush failed: " + e);
+        }
+    }
+
+    private void drain() {
+        Path path;
+        String json;
+        boolean notify;
+        synchronized (this) {
+            path = pendingPath;
+            json = pendingJson;
+            notify = pendingNotify;
+            pendingPath = null;
+            pendingJson = null;
+            task = null;
+        }
+        if (json != null) YACLConfig.writeFile(path, json, notify);
+    }
+
+    private ScheduledExecutorService executor() {
+        if (executor == null) {
+            executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "Veltium Config Saver");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    static void writeAtomically(Path path, String json) throws IOException {
+        Files.createDirectories(path.getParent());
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        ByteBuffer bytes = ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8));
+
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(true);
+        }
+
+        try {
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            // Some network and FUSE file systems; a plain replace is still better than writing in place
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.veltium.config;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the config directory on a daemon thread and runs {@code onChange} once the config
+ * file has been created or modified and the directory has been quiet for
+ * {@link #SETTLE_MILLIS}, so a launcher writing the file in several chunks triggers a single
+ * reload.
+ */
+final class ConfigWatcher implements AutoCloseable {
+    private static final long SETTLE_MILLIS = 200;
+
+    private final WatchService service;
+    private final Path fileName;
+    private final Runnable onChange;
+
+    private ConfigWatcher(WatchService service, Path fileName, Runnable onChange) {
+        this.service = service;
+        this.fileName = fileName;
+        this.onChange = onChange;
+    }
+
+    static ConfigWatcher start(Path file, Runnable onChange) throws IOException {
+        WatchService service = file.getFileSystem().newWatchService();
+        try {
+            file.getParent().register(service,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException | RuntimeException e) {
+            service.close();
+            throw e;
+        }
+
+        ConfigWatcher watcher = new ConfigWatcher(service, file.getFileName(), onChange);
+        Thread thread = new Thread(watcher::run, "Veltium Config Watcher");
+        thread.setDaemon(true);
+        thread.start();
+        return watcher;
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                if (!touchesFile(service.take())) continue;
+
+                // Let the writer finish; every further event restarts the wait
+                WatchKey key;
+                while ((key = service.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    key.pollEvents();
+                    key.reset();
+                }
+
+                try {
+                    onChange.run();
+                } catch (RuntimeException e) {
+                    System.err.println("Veltium: config reload failed: " + e);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // close() was called
+        }
+    }
+
+    private boolean touchesFile(WatchKey key) {
+        boolean touched = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            // An overflow may have swallowed our event, so treat it as a change
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || fileName.equals(event.context())) {
+                touched = true;
+            }
+        }
+        key.reset();
+        return touched;
+    }
+
+    @Override
+    public void close() throws IOException {
+        service.close();
+    }
+}
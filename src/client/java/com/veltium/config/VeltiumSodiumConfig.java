@@ -109,7 +109,125 @@ public class VeltiumSodiumConfig implements ConfigEntryPoint {
                         .setStorageHandler(save)
                         .setBinding(val -> config.showAdvancedPing = val, () -> config.showAdvancedPing)
                         .setEnabledProvider(state -> state.readBooleanOption(modEnabledId), modEnabledId)
+                        .setDefaultValue(false))
+                .addOption(builder.createBooleanOption(Identifier.parse("veltium:active_ping"))
+                        .setName(Component.translatable("text.veltium.option.active_ping"))
+                        .setTooltip(tooltip("text.veltium.option.active_ping.tooltip"))
+                        .setStorageHandler(save)
+                        .setBinding(val -> config.activePing = val, () -> config.activePing)
+                        .setEnabledProvider(state -> state.readBooleanOption(modEnabledId), modEnabledId)
+                        .setDefaultValue(true)));
+        hudPage.addOptionGroup(builder.createOptionGroup()
+                .setName(Component.translatable("text.veltium.sodium.group.performance"))
+                .addOption(builder.createBooleanOption(Identifier.parse("veltium:show_frame_times"))
+                        .setName(Component.translatable("text.veltium.option.show_frame_times"))
+                        .setTooltip(tooltip("text.veltium.option.show_frame_times.tooltip"))
+                        .setStorageHandler(save)
+                        .setBinding(val -> config.showFrameTimes = val, () -> config.showFrameTimes)
+                        .setEnabledProvider(state -> state.readBooleanOption(modEnabledId), modEnabledId)
+                        .setDefaultValue(false))
+                .addOption(builder.createBooleanOption(Identifier.parse("veltium:show_server_tick"))
+                        .setName(Component.translatable("text.veltium.option.show_server_tick"))
+                        .setTooltip(tooltip("text.veltium.option.show_server_tick.tooltip"))
+                        .setStorageHandler(save)
+                        .setBinding(val -> config.showServerTick = val, () -> config.showServerTick)
+                        .setEnabledProvider(state -> state.readBooleanOption(modEnabledId), modEnabledId)
+                        .setDefaultValue(false))
+                .addOption(builder.createBooleanOption(Identifier.parse("veltium:show_gc_stats"))
+                        .setName(Component.translatable("text.veltium.option.show_gc_stats"))
+                        .setTooltip(tooltip("text.veltium.option.show_gc_stats.tooltip"))
+                        .setStorageHandler(save)
+                        .setBinding(val -> config.showGcStats = val, () -> config.showGcStats)
+                        .setEnabledProvider(state -> state.readBooleanOption(modEnabledId), modEnabledId)
+                        .setDefaultValue(false))
+                .addOption(builder.createBooleanOption(Identifier.parse("veltium:show_jfr_stats"))
+                        .setName(Component.translatable("text.veltium.option.show_jfr_stats"))
+                        .setTooltip(tooltip("text.veltium.option.show_jfr_stats.tooltip"))
+                        .setStorageHandler(save)
+                        .setBinding(val -> config.showJfrStats = val, () -> config.showJfrStats)
+                        .setEnabledProvider(state -> state.readBooleanOption(modEnabledId), modEnabledId)
+                        .setDefaultValue(false))
+                .addOption(builder.createBooleanOption(Identifier.parse("veltium:show_sodium_stats"))
+                        .setName(Component.translatable("text.veltium.option.show_sodium_stats"))
+                        .setTooltip(tooltip("text.veltium.option.show_sodium_stats.tooltip"))
+                        .setStorageHandler(save)
+                        .setBinding(val -> config.showSodiumStats = val, () -> config.showSodiumStats)
+                        .setEnabledProvider(state -> state.readBooleanOption(modEnabledId), modEnabledId)
+                        .setDefaultValue(false))
+                .addOption(builder.createBooleanOption(Identifier.parse("veltium:show_render_cost"))
+                        .setName(Component.translatable("text.veltium.option.show_render_cost"))
+                        .setTooltip(tooltip("text.veltium.option.show_render_cost.tooltip"))
+                        .setStorageHandler(save)
+                        .setBinding(val -> config.showRenderCost = val, () -> config.showRenderCost)
+                        .setEnabledProvider(state -> state.readBooleanOption(modEnabledId), modEnabledId)
+                        .setDefaultValue(false))
+                .addOption(builder.createBooleanOption(Identifier.parse("veltium:show_network_stats"))
+                        .setName(Component.translatable("text.veltium.option.show_network_stats"))
+                        .setTooltip(tooltip("text.veltium.option.show_network_stats.tooltip"))
+                        .setStorageHandler(save)
+                        .setBinding(val -> config.showNetworkStats = val, () -> config.showNetworkStats)
+                        .setEnabledProvider(state -> state.readBooleanOption(modEnabledId), modEnabledId)
+                        .setDefaultValue(false))
+                .addOption(builder.createBooleanOption(Identifier.parse("veltium:show_server_estimate"))
+                        .setName(Component.translatable("text.veltium.option.show_server_estimate"))
+                        .setTooltip(tooltip("text.veltium.option.show_server_estimate.tooltip"))
+                        .setStorageHandler(save)
+                        .setBinding(val -> config.showServerEstimate = val, () -> config.showServerEstimate)
+                        .setEnabledProvider(state -> state.readBooleanOption(modEnabledId), modEnabledId)
+                        .setDefaultValue(false))
+                .addOption(builder.createBooleanOption(Identifier.parse("veltium:show_chunk_stats"))
+                        .setName(Component.translatable("text.veltium.option.show_chunk_stats"))
+                        .setTooltip(tooltip("text.veltium.option.show_chunk_stats.tooltip"))
+                        .setStorageHandler(save)
+                        .setBinding(val -> config.showChunkStats = val, () -> config.showChunkStats)
+                        .setEnabledProvider(state -> state.readBooleanOption(modEnabledId), modEnabledId)
+                        .setDefaultValue(false))
+                .addOption(builder.createBooleanOption(Identifier.parse("veltium:show_thread_stats"))
+                        .setName(Component.translatable("text.veltium.option.show_thread_stats"))
+                        .setTooltip(tooltip("text.veltium.option.show_thread_stats.tooltip"))
+                        .setStorageHandler(save)
+                        .setBinding(val -> config.showThreadStats = val, () -> config.showThreadStats)
+                        .setEnabledProvider(state -> state.readBooleanOption(modEnabledId), modEnabledId)
+                        .setDefaultValue(false))
+                .addOption(builder.createBooleanOption(Identifier.parse("veltium:telemetry_enabled"))
+                        .setName(Component.translatable("text.veltium.option.telemetry_enabled"))
+                        .setTooltip(tooltip("text.veltium.option.telemetry_enabled.tooltip"))
+                        .setStorageHandler(save)
+                        .setBinding(val -> config.telemetryEnabled = val, () -> config.telemetryEnabled)
+                        .setEnabledProvider(state -> state.readBooleanOption(modEnabledId), modEnabledId)
+                        .setDefaultValue(false))
+                .addOption(builder.createBooleanOption(Identifier.parse("veltium:record_sessions"))
+                        .setName(Component.translatable("text.veltium.option.record_sessions"))
+                        .setTooltip(tooltip("text.veltium.option.record_sessions.tooltip"))
+                        .setStorageHandler(save)
+                        .setBinding(val -> config.recordSessions = val, () -> config.recordSessions)
+                        .setEnabledProvider(state -> state.readBooleanOption(modEnabledId), modEnabledId)
                         .setDefaultValue(false)));
+        hudPage.addOptionGroup(builder.createOptionGroup()
+                .setName(Component.translatable("text.veltium.sodium.group.power_saver"))
+                .addOption(builder.createBooleanOption(Identifier.parse("veltium:power_saver_enabled"))
+                        .setName(Component.translatable("text.veltium.option.power_saver_enabled"))
+                        .setTooltip(tooltip("text.veltium.option.power_saver_enabled.tooltip"))
+                        .setStorageHandler(save)
+                        .setBinding(val -> config.powerSaverEnabled = val, () -> config.powerSaverEnabled)
+                        .setEnabledProvider(state -> state.readBooleanOption(modEnabledId), modEnabledId)
+                        .setDefaultValue(false))
+                .addOption(builder.createIntegerOption(Identifier.parse("veltium:background_fps_limit"))
+                        .setName(Component.translatable("text.veltium.option.background_fps_limit"))
+                        .setTooltip(tooltip("text.veltium.option.background_fps_limit.tooltip"))
+                        .setStorageHandler(save)
+                        .setBinding(val -> config.backgroundFpsLimit = val, () -> config.backgroundFpsLimit)
+                        .setEnabledProvider(state -> state.readBooleanOption(modEnabledId), modEnabledId)
+                        .setDefaultValue(10)
+                        .setRange(1, 60, 1)
+                        .setValueFormatter(val -> Component.literal(val + " FPS")))
+                .addOption(builder.createBooleanOption(Identifier.parse("veltium:skip_render_when_minimized"))
+                        .setName(Component.translatable("text.veltium.option.skip_render_when_minimized"))
+                        .setTooltip(tooltip("text.veltium.option.skip_render_when_minimized.tooltip"))
+                        .setStorageHandler(save)
+                        .setBinding(val -> config.skipRenderWhenMinimized = val, () -> config.skipRenderWhenMinimized)
+                        .setEnabledProvider(state -> state.readBooleanOption(modEnabledId), modEnabledId)
+                        .setDefaultValue(true)));
 
         OptionPageBuilder appearancePage = builder.createOptionPage()
                 .setName(Component.translatable("text.veltium.sodium.page.appearance"));
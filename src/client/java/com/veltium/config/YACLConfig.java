@@ -2,28 +2,55 @@ package com.veltium.config;
 
 import dev.isxander.yacl3.api.*;
 import dev.isxander.yacl3.api.controller.*;
+import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.network.chat.Component;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
 import net.fabricmc.loader.api.FabricLoader;
 import net.minecraft.ChatFormatting;
 
 import java.awt.Color;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
 
 
 public class YACLConfig {
     private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
-    private static final Path CONFIG_PATH = FabricLoader.getInstance().getConfigDir().resolve("veltium-config.json");
+    private static final String CONFIG_FILE = "veltium-config.json";
+    private static final ConfigSaver SAVER = new ConfigSaver();
     private static YACLConfig INSTANCE = null;
 
+    // Дерево опцій екрана налаштувань — будується один раз, див. createConfigScreen (лише потік рендеру)
+    private static ScreenModel screenModel = null;
+    private static WeakReference<Screen> screenModelScreen = new WeakReference<>(null);
+
+    // Незмінні частини екрана налаштувань, спільні для всіх відкриттів (лише потік рендеру)
+    private static final Map<String, OptionDescription> DESCRIPTIONS = new HashMap<>();
+    private static final Component YES = Component.translatable("text.optimizationmod.yes").withStyle(ChatFormatting.GREEN);
+    private static final Component NO = Component.translatable("text.optimizationmod.no").withStyle(ChatFormatting.RED);
+
+    // Знімок для читачів (HUD, семплер, міксини) — публікується після кожного збереження й завантаження
+    private static volatile YACLConfig current = null;
+    // Останній вміст файлу, записаний або прочитаний нами — watcher не перезавантажує власні збереження
+    private static volatile String lastFileJson = null;
+    private static ConfigWatcher watcher = null;
+
+    // Лічильник змін — HUD перебудовує кешовані рядки, коли він змінюється
+    private transient int revision = 0;
+    // Знімок із current() — лише для читання
+    private transient boolean snapshot = false;
+
+    /** The editable instance the settings screens bind to. Renderers should use {@link #current()}. */
     public static YACLConfig getInstance() {
         if (INSTANCE == null) {
             INSTANCE = new YACLConfig();
@@ -32,6 +59,89 @@ public class YACLConfig {
         return INSTANCE;
     }
 
+    /**
+     * The settings as of the last save, load or reload, as a private copy that Veltium never
+     * modifies after publishing it. A reader that takes one reference per frame or sample sees a
+     * consistent set of values while the screens edit {@link #getInstance()} field by field.
+     *
+     * <p>The copy is a plain {@code YACLConfig} with public fields, so being read-only is a
+     * convention, not enforced; {@link #save()} and {@link #load()} refuse to run on it so a
+     * stray write can at least never reach the file or the live instance.
+     */
+    public static YACLConfig current() {
+        YACLConfig snapshot = current;
+        if (snapshot == null) {
+            getInstance();
+            snapshot = current;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Reloads the config whenever the file changes on disk, e.g. when a launcher pushes new
+     * settings. The file is read and parsed on the watcher thread; the values are applied on
+     * {@code clientExecutor}.
+     */
+    public static synchronized void startWatching(Executor clientExecutor) {
+        if (watcher != null) return;
+        try {
+            watcher = ConfigWatcher.start(configPath(), () -> reloadFromDisk(clientExecutor));
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Помилка відстеження файлу конфігурації Veltium: " + e.getMessage());
+        }
+    }
+
+    public static synchronized void stopWatching() {
+        if (watcher == null) return;
+        try {
+            watcher.close();
+        } catch (IOException e) {
+            System.err.println("Помилка відстеження файлу конфігурації Veltium: " + e.getMessage());
+        }
+        watcher = null;
+    }
+
+    private static void reloadFromDisk(Executor clientExecutor) {
+        Path path = configPath();
+        String json;
+        try {
+            if (!Files.exists(path)) return;
+            json = Files.readString(path);
+        } catch (IOException e) {
+            System.err.println("Помилка перезавантаження конфігурації Veltium: " + e.getMessage());
+            return;
+        }
+        if (json.equals(lastFileJson)) return;
+
+        YACLConfig loaded;
+        try {
+            loaded = GSON.fromJson(json, YACLConfig.class);
+        } catch (JsonParseException e) {
+            // Keep the current settings; the next complete write triggers another reload
+            System.err.println("Помилка перезавантаження конфігурації Veltium: " + e.getMessage());
+            return;
+        }
+        if (loaded == null) return;
+        lastFileJson = json;
+
+        clientExecutor.execute(() -> {
+            YACLConfig config = getInstance();
+            config.copyFrom(loaded);
+            config.revision++;
+            config.publish();
+            System.out.println("Конфігурацію Veltium перезавантажено з диска!");
+        });
+    }
+
+    private void publish() {
+        if (this != INSTANCE) return;
+        YACLConfig copy = new YACLConfig();
+        copy.copyFrom(this);
+        copy.revision = revision;
+        copy.snapshot = true;
+        current = copy;
+    }
+
     // === ГОЛОВНІ НАЛАШТУВАННЯ ===
     public boolean modEnabled = true;
     public boolean showNotifications = true;
@@ -52,6 +162,26 @@ public class YACLConfig {
     public boolean showAdvancedFps = false;
     public boolean showAdvancedMemory = false;
     public boolean showAdvancedPing = false;
+    public boolean activePing = true;
+
+    // === ПРОДУКТИВНІСТЬ ===
+    public boolean showFrameTimes = false;
+    public boolean showServerTick = false;
+    public boolean showGcStats = false;
+    public boolean showJfrStats = false;
+    public boolean showSodiumStats = false;
+    public boolean showRenderCost = false;
+    public boolean showNetworkStats = false;
+    public boolean showServerEstimate = false;
+    public boolean showChunkStats = false;
+    public boolean showThreadStats = false;
+    public boolean telemetryEnabled = false;
+    public boolean recordSessions = false;
+
+    // === ЕНЕРГОЗБЕРЕЖЕННЯ ===
+    public boolean powerSaverEnabled = false;
+    public int backgroundFpsLimit = 10;
+    public boolean skipRenderWhenMinimized = true;
 
     // === ПОЗИЦІЯ HUD ===
     public HudPosition hudPosition = HudPosition.TOP_LEFT;
@@ -157,39 +287,105 @@ public class YACLConfig {
         return memoryBadColor;
     }
 
+    public int getTpsColor(double tps) {
+        if (tps >= 19.5) return fpsGoodColor;
+        if (tps >= 15) return fpsMediumColor;
+        return fpsBadColor;
+    }
+
+    public int getPauseColor(double pauseMillis) {
+        if (pauseMillis < 20) return memoryGoodColor;
+        if (pauseMillis < 50) return memoryMediumColor;
+        return memoryBadColor;
+    }
+
+    // Частка бюджету кадру 60 FPS (16.7 мс), яку забирає один тип сутностей
+    public int getRenderCostColor(double millisPerFrame) {
+        if (millisPerFrame < 1) return memoryGoodColor;
+        if (millisPerFrame < 4) return memoryMediumColor;
+        return memoryBadColor;
+    }
+
+    // Відсоток одного ядра: потік біля 100% упирається в ядро, а не в загальне завантаження CPU
+    public int getCpuColor(double percentOfCore) {
+        if (percentOfCore < 50) return memoryGoodColor;
+        if (percentOfCore < 85) return memoryMediumColor;
+        return memoryBadColor;
+    }
+
     public int getPingColor(int ping) {
         if (ping < 50) return pingGoodColor;
         if (ping < 100) return pingMediumColor;
         return pingBadColor;
     }
 
+    public int revision() {
+        return revision;
+    }
+
     public void load() {
+        checkWritable();
+        load(configPath());
+    }
+
+    /**
+     * Serializes the current values and hands them to the background saver, which writes the
+     * file after a short debounce. Safe to call on every option change.
+     */
+    public void save() {
+        checkWritable();
+        revision++;
+        publish();
+        SAVER.submit(configPath(), GSON.toJson(this), showNotifications);
+    }
+
+    private void checkWritable() {
+        if (snapshot) throw new IllegalStateException("Veltium: config snapshots are read-only, use YACLConfig.getInstance()");
+    }
+
+    /** Blocks until a debounced save has reached disk; called when the client stops. */
+    public static void flushSaves() {
+        SAVER.flush();
+    }
+
+    // Шлях резолвиться під час виклику, щоб клас працював і поза грою (бенчмарки)
+    private static Path configPath() {
+        return FabricLoader.getInstance().getConfigDir().resolve(CONFIG_FILE);
+    }
+
+    void load(Path path) {
         try {
-            if (Files.exists(CONFIG_PATH)) {
-                try (FileReader reader = new FileReader(CONFIG_PATH.toFile())) {
+            if (Files.exists(path)) {
+                try (FileReader reader = new FileReader(path.toFile())) {
                     YACLConfig loadedConfig = GSON.fromJson(reader, YACLConfig.class);
                     if (loadedConfig != null) {
                         copyFrom(loadedConfig);
+                        revision++;
                         System.out.println("Конфігурацію Veltium завантажено успішно!");
                     }
                 }
             } else {
-                save();
+                save(path);
                 System.out.println("Створено нову конфігурацію Veltium!");
             }
         } catch (IOException e) {
             System.err.println("Помилка завантаження конфігурації Veltium: " + e.getMessage());
         }
+        publish();
     }
 
-    public void save() {
+    void save(Path path) {
+        revision++;
+        publish();
+        writeFile(path, GSON.toJson(this), showNotifications);
+    }
+
+    static void writeFile(Path path, String json, boolean notify) {
         try {
-            Files.createDirectories(CONFIG_PATH.getParent());
-            try (FileWriter writer = new FileWriter(CONFIG_PATH.toFile())) {
-                GSON.toJson(this, writer);
-                if (showNotifications) {
-                    System.out.println("Конфігурацію Veltium збережено успішно!");
-                }
+            ConfigSaver.writeAtomically(path, json);
+            lastFileJson = json;
+            if (notify) {
+                System.out.println("Конфігурацію Veltium збережено успішно!");
             }
         } catch (IOException e) {
             System.err.println("Помилка збереження конфігурації Veltium: " + e.getMessage());
@@ -210,6 +406,22 @@ public class YACLConfig {
         this.showAdvancedFps = other.showAdvancedFps;
         this.showAdvancedMemory = other.showAdvancedMemory;
         this.showAdvancedPing = other.showAdvancedPing;
+        this.activePing = other.activePing;
+        this.showFrameTimes = other.showFrameTimes;
+        this.showServerTick = other.showServerTick;
+        this.showGcStats = other.showGcStats;
+        this.showJfrStats = other.showJfrStats;
+        this.showSodiumStats = other.showSodiumStats;
+        this.showRenderCost = other.showRenderCost;
+        this.showNetworkStats = other.showNetworkStats;
+        this.showServerEstimate = other.showServerEstimate;
+        this.showChunkStats = other.showChunkStats;
+        this.showThreadStats = other.showThreadStats;
+        this.telemetryEnabled = other.telemetryEnabled;
+        this.recordSessions = other.recordSessions;
+        this.powerSaverEnabled = other.powerSaverEnabled;
+        this.backgroundFpsLimit = other.backgroundFpsLimit;
+        this.skipRenderWhenMinimized = other.skipRenderWhenMinimized;
         this.hudPosition = other.hudPosition != null ? other.hudPosition : HudPosition.TOP_LEFT;
         this.hudX = other.hudX;
         this.hudY = other.hudY;
@@ -243,15 +455,55 @@ public class YACLConfig {
         this.nightColor = other.nightColor;
     }
 
+    /** The option tree and the hook that recomputes which of its options are available. */
+    private record ScreenModel(YetAnotherConfigLib config, Runnable updateAvailability) {
+        Screen generateScreen(Screen parent) {
+            for (ConfigCategory category : config.categories()) {
+                for (OptionGroup group : category.groups()) {
+                    for (Option<?> option : group.options()) {
+                        option.forgetPendingValue();
+                    }
+                }
+            }
+            updateAvailability.run();
+            // YACL generates one screen per instance, so every open wraps the shared categories in a new one
+            return YetAnotherConfigLib.createBuilder()
+                    .title(config.title())
+                    .categories(config.categories())
+                    .save(config.saveFunction())
+                    .build()
+                    .generateScreen(parent);
+        }
+    }
+
+    /**
+     * Opens the settings screen. The option tree is built on first use and reused afterwards;
+     * each open drops unsaved values left from the previous visit, so every option re-reads
+     * its binding, and refreshes which options are available. If a screen using the cached
+     * tree is still showing, the new one gets a tree of its own so the two never share pending
+     * values.
+     */
     public static Screen createConfigScreen(Screen parent) {
-        YACLConfig config = getInstance();
+        Screen showing = Minecraft.getInstance().gui.screen();
+        if (screenModel != null && showing != null && showing == screenModelScreen.get()) {
+            return buildScreenModel(getInstance()).generateScreen(parent);
+        }
+        if (screenModel == null) {
+            screenModel = buildScreenModel(getInstance());
+        }
+        Screen screen = screenModel.generateScreen(parent);
+        screenModelScreen = new WeakReference<>(screen);
+        return screen;
+    }
+
+    private static ScreenModel buildScreenModel(YACLConfig config) {
         List<Option<?>> modDependentOptions = new ArrayList<>();
         Runnable[] updateModDependentOptions = new Runnable[1];
 
         // Зберігаємо опцію hudX як поле, щоб оновлювати її доступність динамічно
         Option<Integer> hudXOption = Option.<Integer>createBuilder()
                 .name(Component.translatable("text.optimizationmod.option.hud_x"))
-                .description(OptionDescription.of(Component.translatable("text.optimizationmod.option.hud_x.tooltip")))
+                .description(description("text.optimizationmod.option.hud_x.tooltip"))
                 .binding(10, () -> config.hudX, val -> config.hudX = val)
                 .controller(opt -> IntegerSliderControllerBuilder.create(opt).range(0, 320).step(1))
                 .available(config.modEnabled && !config.hudPosition.isCenterX()) // НОВЕ: неактивна якщо CENTER позиція
@@ -260,7 +512,7 @@ public class YACLConfig {
         // Опція позиції HUD з listener для оновлення hudX
         Option<HudPosition> hudPositionOption = Option.<HudPosition>createBuilder()
                 .name(Component.translatable("text.optimizationmod.option.hud_position"))
-                .description(OptionDescription.of(Component.translatable("text.optimizationmod.option.hud_position.tooltip")))
+                .description(description("text.optimizationmod.option.hud_position.tooltip"))
                 .binding(HudPosition.TOP_LEFT,
                         () -> config.hudPosition,
                         val -> {
@@ -280,7 +532,7 @@ public class YACLConfig {
             hudXOption.setAvailable(config.modEnabled && !config.hudPosition.isCenterX());
         };
 
-        return YetAnotherConfigLib.createBuilder()
+        return new ScreenModel(YetAnotherConfigLib.createBuilder()
                 .title(Component.translatable("text.optimizationmod.config.title"))
 
                 // ==================== ВКЛАДКА 1: ОСНОВНІ НАЛАШТУВАННЯ ====================
@@ -392,6 +644,130 @@ public class YACLConfig {
                                         false,
                                         () -> config.showAdvancedPing,
                                         val -> config.showAdvancedPing = val), config.modEnabled))
+
+                                .option(track(modDependentOptions, createBooleanOption(
+                                        "text.optimizationmod.option.active_ping",
+                                        "text.optimizationmod.option.active_ping.tooltip",
+                                        true,
+                                        () -> config.activePing,
+                                        val -> config.activePing = val), config.modEnabled))
+                                .build())
+
+                        // Метрики продуктивності — час кадру, перцентилі тощо
+                        .group(OptionGroup.createBuilder()
+                                .name(Component.translatable("text.optimizationmod.separator.performance"))
+                                .collapsed(false)
+
+                                .option(track(modDependentOptions, createBooleanOption(
+                                        "text.optimizationmod.option.show_frame_times",
+                                        "text.optimizationmod.option.show_frame_times.tooltip",
+                                        false,
+                                        () -> config.showFrameTimes,
+                                        val -> config.showFrameTimes = val), config.modEnabled))
+
+                                .option(track(modDependentOptions, createBooleanOption(
+                                        "text.optimizationmod.option.show_server_tick",
+                                        "text.optimizationmod.option.show_server_tick.tooltip",
+                                        false,
+                                        () -> config.showServerTick,
+                                        val -> config.showServerTick = val), config.modEnabled))
+
+                                .option(track(modDependentOptions, createBooleanOption(
+                                        "text.optimizationmod.option.show_gc_stats",
+                                        "text.optimizationmod.option.show_gc_stats.tooltip",
+                                        false,
+                                        () -> config.showGcStats,
+                                        val -> config.showGcStats = val), config.modEnabled))
+
+                                .option(track(modDependentOptions, createBooleanOption(
+                                        "text.optimizationmod.option.show_jfr_stats",
+                                        "text.optimizationmod.option.show_jfr_stats.tooltip",
+                                        false,
+                                        () -> config.showJfrStats,
+                                        val -> config.showJfrStats = val), config.modEnabled))
+
+                                .option(track(modDependentOptions, createBooleanOption(
+                                        "text.optimizationmod.option.show_sodium_stats",
+                                        "text.optimizationmod.option.show_sodium_stats.tooltip",
+                                        false,
+                                        () -> config.showSodiumStats,
+                                        val -> config.showSodiumStats = val), config.modEnabled))
+
+                                .option(track(modDependentOptions, createBooleanOption(
+                                        "text.optimizationmod.option.show_render_cost",
+                                        "text.optimizationmod.option.show_render_cost.tooltip",
+                                        false,
+                                        () -> config.showRenderCost,
+                                        val -> config.showRenderCost = val), config.modEnabled))
+
+                                .option(track(modDependentOptions, createBooleanOption(
+                                        "text.optimizationmod.option.show_network_stats",
+                                        "text.optimizationmod.option.show_network_stats.tooltip",
+                                        false,
+                                        () -> config.showNetworkStats,
+                                        val -> config.showNetworkStats = val), config.modEnabled))
+
+                                .option(track(modDependentOptions, createBooleanOption(
+                                        "text.optimizationmod.option.show_server_estimate",
+                                        "text.optimizationmod.option.show_server_estimate.tooltip",
+                                        false,
+                                        () -> config.showServerEstimate,
+                                        val -> config.showServerEstimate = val), config.modEnabled))
+
+                                .option(track(modDependentOptions, createBooleanOption(
+                                        "text.optimizationmod.option.show_chunk_stats",
+                                        "text.optimizationmod.option.show_chunk_stats.tooltip",
+                                        false,
+                                        () -> config.showChunkStats,
+                                        val -> config.showChunkStats = val), config.modEnabled))
+
+                                .option(track(modDependentOptions, createBooleanOption(
+                                        "text.optimizationmod.option.show_thread_stats",
+                                        "text.optimizationmod.option.show_thread_stats.tooltip",
+                                        false,
+                                        () -> config.showThreadStats,
+                                        val -> config.showThreadStats = val), config.modEnabled))
+
+                                .option(track(modDependentOptions, createBooleanOption(
+                                        "text.optimizationmod.option.telemetry_enabled",
+                                        "text.optimizationmod.option.telemetry_enabled.tooltip",
+                                        false,
+                                        () -> config.telemetryEnabled,
+                                        val -> config.telemetryEnabled = val), config.modEnabled))
+
+                                .option(track(modDependentOptions, createBooleanOption(
+                                        "text.optimizationmod.option.record_sessions",
+                                        "text.optimizationmod.option.record_sessions.tooltip",
+                                        false,
+                                        () -> config.recordSessions,
+                                        val -> config.recordSessions = val), config.modEnabled))
+                                .build())
+
+                        // Енергозбереження — коли вікно у фоні або згорнуте
+                        .group(OptionGroup.createBuilder()
+                                .name(Component.translatable("text.optimizationmod.separator.power_saver"))
+                                .collapsed(false)
+
+                                .option(track(modDependentOptions, createBooleanOption(
+                                        "text.optimizationmod.option.power_saver_enabled",
+                                        "text.optimizationmod.option.power_saver_enabled.tooltip",
+                                        false,
+                                        () -> config.powerSaverEnabled,
+                                        val -> config.powerSaverEnabled = val), config.modEnabled))
+
+                                .option(track(modDependentOptions, Option.<Integer>createBuilder()
+                                        .name(Component.translatable("text.optimizationmod.option.background_fps_limit"))
+                                        .description(description("text.optimizationmod.option.background_fps_limit.tooltip"))
+                                        .binding(10, () -> config.backgroundFpsLimit, val -> config.backgroundFpsLimit = val)
+                                        .controller(opt -> IntegerSliderControllerBuilder.create(opt).range(1, 60).step(1))
+                                        .build(), config.modEnabled))
+
+                                .option(track(modDependentOptions, createBooleanOption(
+                                        "text.optimizationmod.option.skip_render_when_minimized",
+                                        "text.optimizationmod.option.skip_render_when_minimized.tooltip",
+                                        true,
+                                        () -> config.skipRenderWhenMinimized,
+                                        val -> config.skipRenderWhenMinimized = val), config.modEnabled))
                                 .build())
 
                         .build())
@@ -408,7 +784,7 @@ public class YACLConfig {
 
                                 .option(track(modDependentOptions, Option.<Float>createBuilder()
                                         .name(Component.translatable("text.optimizationmod.option.hud_scale"))
-                                        .description(OptionDescription.of(Component.translatable("text.optimizationmod.option.hud_scale.tooltip")))
+                                        .description(description("text.optimizationmod.option.hud_scale.tooltip"))
                                         .binding(1.0f, () -> config.hudScale, val -> config.hudScale = val)
                                         .controller(opt -> FloatSliderControllerBuilder.create(opt).range(0.5f, 3.0f).step(0.1f))
                                         .build(), config.modEnabled))
@@ -426,7 +802,7 @@ public class YACLConfig {
 
                                 .option(track(modDependentOptions, Option.<Integer>createBuilder()
                                         .name(Component.translatable("text.optimizationmod.option.hud_y"))
-                                        .description(OptionDescription.of(Component.translatable("text.optimizationmod.option.hud_y.tooltip")))
+                                        .description(description("text.optimizationmod.option.hud_y.tooltip"))
                                         .binding(10, () -> config.hudY, val -> config.hudY = val)
                                         .controller(opt -> IntegerSliderControllerBuilder.create(opt).range(0, 240).step(1))
                                         .build(), config.modEnabled))
@@ -453,7 +829,7 @@ public class YACLConfig {
 
                                 .option(track(modDependentOptions, Option.<Float>createBuilder()
                                         .name(Component.translatable("text.optimizationmod.option.hud_text_opacity"))
-                                        .description(OptionDescription.of(Component.translatable("text.optimizationmod.option.hud_text_opacity.tooltip")))
+                                        .description(description("text.optimizationmod.option.hud_text_opacity.tooltip"))
                                         .binding(1.0f, () -> config.hudTextOpacity, val -> config.hudTextOpacity = val)
                                         .controller(opt -> FloatSliderControllerBuilder.create(opt).range(0.3f, 1.0f).step(0.1f))
                                         .build(), config.modEnabled))
@@ -480,14 +856,14 @@ public class YACLConfig {
 
                                 .option(track(modDependentOptions, Option.<Color>createBuilder()
                                         .name(Component.translatable("text.optimizationmod.option.hud_background_color"))
-                                        .description(OptionDescription.of(Component.translatable("text.optimizationmod.option.hud_background_color.tooltip")))
+                                        .description(description("text.optimizationmod.option.hud_background_color.tooltip"))
                                         .binding(intToColor(0x000000), () -> intToColor(config.hudBackgroundColor), val -> config.hudBackgroundColor = colorToInt(val))
                                         .controller(ColorControllerBuilder::create)
                                         .build(), config.modEnabled))
 
                                 .option(track(modDependentOptions, Option.<Float>createBuilder()
                                         .name(Component.translatable("text.optimizationmod.option.hud_background_opacity"))
-                                        .description(OptionDescription.of(Component.translatable("text.optimizationmod.option.hud_background_opacity.tooltip")))
+                                        .description(description("text.optimizationmod.option.hud_background_opacity.tooltip"))
                                         .binding(0.3f, () -> config.hudBackgroundOpacity, val -> config.hudBackgroundOpacity = val)
                                         .controller(opt -> FloatSliderControllerBuilder.create(opt).range(0.1f, 1.0f).step(0.1f))
                                         .build(), config.modEnabled))
@@ -507,7 +883,7 @@ public class YACLConfig {
 
                                 .option(track(modDependentOptions, Option.<Color>createBuilder()
                                         .name(Component.translatable("text.optimizationmod.option.coordinates_color"))
-                                        .description(OptionDescription.of(Component.translatable("text.optimizationmod.option.coordinates_color.tooltip")))
+                                        .description(description("text.optimizationmod.option.coordinates_color.tooltip"))
                                         .binding(intToColor(0xFFFFFF), () -> intToColor(config.coordinatesColor), val -> config.coordinatesColor = colorToInt(val))
                                         .controller(ColorControllerBuilder::create)
                                         .build(), config.modEnabled))
@@ -589,8 +965,11 @@ public class YACLConfig {
                         .build())
 
                 .save(config::save)
-                .build()
-                .generateScreen(parent);
+                .build(), updateModDependentOptions[0]);
+    }
+
+    private static OptionDescription description(String tooltipKey) {
+        return DESCRIPTIONS.computeIfAbsent(tooltipKey, key -> OptionDescription.of(Component.translatable(key)));
     }
 
     private static <T> Option<T> track(List<Option<?>> options, Option<T> option, boolean available) {
@@ -605,12 +984,10 @@ public class YACLConfig {
                                                        java.util.function.Consumer<Boolean> setter) {
         return Option.<Boolean>createBuilder()
                 .name(Component.translatable(nameKey))
-                .description(OptionDescription.of(Component.translatable(tooltipKey)))
+                .description(description(tooltipKey))
                 .binding(defaultValue, getter, setter)
                 .controller(opt -> BooleanControllerBuilder.create(opt)
-                        .formatValue(val -> val
-                                ? Component.translatable("text.optimizationmod.yes").withStyle(ChatFormatting.GREEN)
-                                : Component.translatable("text.optimizationmod.no").withStyle(ChatFormatting.RED)))
+                        .formatValue(val -> val ? YES : NO))
                 .build();
     }
 
@@ -620,7 +997,7 @@ public class YACLConfig {
                                                    java.util.function.Consumer<Integer> setter) {
         return Option.<Color>createBuilder()
                 .name(Component.translatable(nameKey))
-                .description(OptionDescription.of(Component.translatable(tooltipKey)))
+                .description(description(tooltipKey))
                 .binding(intToColor(defaultValue), () -> intToColor(getter.get()), val -> setter.accept(colorToInt(val)))
                 .controller(ColorControllerBuilder::create)
                 .build();
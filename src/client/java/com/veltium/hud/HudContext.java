@@ -0,0 +1,76 @@
+package com.veltium.hud;
+
+import com.veltium.config.YACLConfig;
+import com.veltium.stats.MetricSnapshot;
+import net.minecraft.ChatFormatting;
+import net.minecraft.client.Minecraft;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.MutableComponent;
+
+/**
+ * Per-frame state handed to {@link HudWidget#update}: the client, the frame's config
+ * snapshot, the latest metric sample and the shared formatter, plus helpers that style lines
+ * the same way for every widget. Only used on the render thread.
+ */
+public final class HudContext {
+    private final HudFormatter formatter;
+
+    private Minecraft client;
+    private YACLConfig config;
+    private MetricSnapshot sample;
+    private long nowMillis;
+    private boolean linesChanged;
+
+    public HudContext(HudFormatter formatter) {
+        this.formatter = formatter;
+    }
+
+    void begin(Minecraft client, YACLConfig config, MetricSnapshot sample, long nowMillis) {
+        this.client = client;
+        this.config = config;
+        this.sample = sample;
+        this.nowMillis = nowMillis;
+    }
+
+    public Minecraft client() { return client; }
+    public YACLConfig config() { return config; }
+    public MetricSnapshot sample() { return sample; }
+    public HudFormatter formatter() { return formatter; }
+    public long nowMillis() { return nowMillis; }
+
+    /** Sets a line from plain text in the HUD style: bold if configured, text opacity applied. */
+    public void setLine(HudLine line, String text, int color, boolean strikethrough) {
+        setLine(line, text(text, strikethrough), color);
+    }
+
+    /** Sets a line from a prepared component, e.g. one with colored siblings. */
+    public void setLine(HudLine line, Component component, int color) {
+        line.set(client.font, component, withTextAlpha(color));
+        linesChanged = true;
+    }
+
+    public MutableComponent text(String text, boolean strikethrough) {
+        MutableComponent mutableText = Component.literal(text);
+
+        if (config.hudBold) mutableText = mutableText.withStyle(ChatFormatting.BOLD);
+        if (strikethrough) mutableText = mutableText.withStyle(ChatFormatting.STRIKETHROUGH);
+
+        return mutableText;
+    }
+
+    public int withTextAlpha(int color) {
+        int alpha = (int)(Math.max(0.1f, config.hudTextOpacity) * 255);
+        return (alpha << 24) | (color & 0xFFFFFF);
+    }
+
+    /** Rounds to tenths for {@link HudLine#isStale} keys, matching the one decimal the HUD shows. */
+    public static long tenths(double value) {
+        return Math.round(value * 10.0);
+    }
+
+    boolean consumeLinesChanged() {
+        boolean changed = linesChanged;
+        linesChanged = false;
+        return changed;
+    }
+}
@@ -0,0 +1,275 @@
+package com.veltium.hud;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Allocation-free replacement for {@code String.format} and {@code Component.translatable}
+ * on the HUD. Translated patterns are parsed once into literal/argument pieces; arguments
+ * are written straight into reusable char buffers, so the only object produced per line is
+ * the final String returned by {@link #build()}.
+ *
+ * <p>Patterns use the form the game's language loader leaves behind: {@code %s},
+ * positional {@code %1$s} and {@code %%}.
+ */
+public final class HudFormatter {
+    private static final int MAX_ARGS = 8;
+    private static final char[] MIN_LONG = Long.toString(Long.MIN_VALUE).toCharArray();
+
+    private final UnaryOperator<String> translations;
+    private final Map<String, Template> templates = new HashMap<>();
+
+    private char[] args = new char[128];
+    private int argsLength;
+    private final int[] argStart = new int[MAX_ARGS];
+    private final int[] argEnd = new int[MAX_ARGS];
+    private int argCount;
+
+    private char[] out = new char[128];
+    private int outLength;
+    private Template template;
+
+    public HudFormatter(UnaryOperator<String> translations) {
+        this.translations = translations;
+    }
+
+    /** Drops parsed patterns, e.g. after the language was changed. */
+    public void clearTemplates() {
+        templates.clear();
+    }
+
+    public HudFormatter begin(String translationKey) {
+        Template cached = templates.get(translationKey);
+        if (cached == null) {
+            cached = Template.parse(translations.apply(translationKey));
+            templates.put(translationKey, cached);
+        }
+        template = cached;
+        argsLength = 0;
+        argCount = 0;
+        return this;
+    }
+
+    public HudFormatter argInt(long value) {
+        startArg();
+        putLong(value);
+        return endArg();
+    }
+
+    public HudFormatter argPadded(long value, int width) {
+        startArg();
+        putPadded(value, width);
+        return endArg();
+    }
+
+    /** One decimal place, like {@code %.1f}. */
+    public HudFormatter argDecimal(double value) {
+        startArg();
+        putDecimal(value);
+        return endArg();
+    }
+
+    /** One decimal place followed by a percent sign, like {@code %.1f%%}. */
+    public HudFormatter argPercent(double value) {
+        startArg();
+        putDecimal(value);
+        put('%');
+        return endArg();
+    }
+
+    /** {@code usedMB/maxMB (percent%)}. */
+    public HudFormatter argMemory(long usedBytes, long maxBytes) {
+        startArg();
+        putLong(usedBytes >> 20);
+        put('M');
+        put('B');
+        put('/');
+        putLong(maxBytes >> 20);
+        put('M');
+        put('B');
+        put(' ');
+        put('(');
+        putLong(maxBytes > 0 ? usedBytes * 100 / maxBytes : 0);
+        put('%');
+        put(')');
+        return endArg();
+    }
+
+    /** {@code HH:mm:ss}. */
+    public HudFormatter argClock(int hours, int minutes, int seconds) {
+        startArg();
+        putPadded(hours, 2);
+        put(':');
+        putPadded(minutes, 2);
+        put(':');
+        putPadded(seconds, 2);
+        return endArg();
+    }
+
+    /** {@code mm:ss}. */
+    public HudFormatter argClock(long minutes, long seconds) {
+        startArg();
+        putPadded(minutes, 2);
+        put(':');
+        putPadded(seconds, 2);
+        return endArg();
+    }
+
+    public HudFormatter argText(String text) {
+        startArg();
+        for (int i = 0; i < text.length(); i++) put(text.charAt(i));
+        return endArg();
+    }
+
+    /** Substitutes the arguments into the pattern and returns the finished text. */
+    public String build() {
+        outLength = 0;
+        Template current = template;
+        for (int i = 0; i < current.argIndex.length; i++) {
+            write(current.literals[i]);
+            int arg = current.argIndex[i];
+            if (arg < argCount) write(args, argStart[arg], argEnd[arg]);
+        }
+        write(current.literals[current.argIndex.length]);
+        return new String(out, 0, outLength);
+    }
+
+    private void startArg() {
+        if (argCount == MAX_ARGS) throw new IllegalStateException("Too many HUD format arguments");
+        argStart[argCount] = argsLength;
+    }
+
+    private HudFormatter endArg() {
+        argEnd[argCount] = argsLength;
+        argCount++;
+        return this;
+    }
+
+    private void put(char c) {
+        if (argsLength == args.length) args = Arrays.copyOf(args, args.length * 2);
+        args[argsLength++] = c;
+    }
+
+    private void putLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            for (char c : MIN_LONG) put(c);
+            return;
+        }
+        if (value < 0) {
+            put('-');
+            value = -value;
+        }
+        putDigits(value, 1);
+    }
+
+    private void putPadded(long value, int width) {
+        if (value < 0) {
+            putLong(value);
+            return;
+        }
+        putDigits(value, width);
+    }
+
+    private void putDigits(long value, int minWidth) {
+        int digits = 1;
+        for (long v = value; v >= 10; v /= 10) digits++;
+        for (int i = digits; i < minWidth; i++) put('0');
+
+        while (argsLength + digits > args.length) args = Arrays.copyOf(args, args.length * 2);
+        int pos = argsLength + digits;
+        do {
+            args[--pos] = (char) ('0' + (value % 10));
+            value /= 10;
+        } while (value > 0);
+        argsLength += digits;
+    }
+
+    private void putDecimal(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            put('-');
+            return;
+        }
+        long tenths = Math.round(value * 10.0);
+        if (tenths < 0) {
+            put('-');
+            tenths = -tenths;
+        }
+        putDigits(tenths / 10, 1);
+        put('.');
+        put((char) ('0' + tenths % 10));
+    }
+
+    private void write(String literal) {
+        int length = literal.length();
+        ensureOut(length);
+        literal.getChars(0, length, out, outLength);
+        outLength += length;
+    }
+
+    private void write(char[] source, int from, int to) {
+        int length = to - from;
+        ensureOut(length);
+        System.arraycopy(source, from, out, outLength, length);
+        outLength += length;
+    }
+
+    private void ensureOut(int extra) {
+        if (outLength + extra > out.length) {
+            out = Arrays.copyOf(out, Math.max(out.length * 2, outLength + extra));
+        }
+    }
+
+    private record Template(String[] literals, int[] argIndex) {
+        static Template parse(String pattern) {
+            List<String> literals = new ArrayList<>();
+            List<Integer> indices = new ArrayList<>();
+            StringBuilder literal = new StringBuilder();
+            int sequential = 0;
+
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (c != '%' || i + 1 >= pattern.length()) {
+                    literal.append(c);
+                    continue;
+                }
+
+                char nextChar = pattern.charAt(i + 1);
+                if (nextChar == '%') {
+                    literal.append('%');
+                    i++;
+                    continue;
+                }
+
+                int j = i + 1;
+                while (j < pattern.length() && Character.isDigit(pattern.charAt(j))) j++;
+                int index;
+                int end;
+                if (j < pattern.length() && pattern.charAt(j) == '$' && j > i + 1
+                        && j + 1 < pattern.length() && pattern.charAt(j + 1) == 's') {
+                    index = Integer.parseInt(pattern, i + 1, j, 10) - 1;
+                    end = j + 1;
+                } else if (nextChar == 's') {
+                    index = sequential++;
+                    end = i + 1;
+                } else {
+                    literal.append(c);
+                    continue;
+                }
+
+                literals.add(literal.toString());
+                literal.setLength(0);
+                indices.add(index);
+                i = end;
+            }
+            literals.add(literal.toString());
+
+            int[] argIndex = new int[indices.size()];
+            for (int i = 0; i < argIndex.length; i++) argIndex[i] = indices.get(i);
+            return new Template(literals.toArray(new String[0]), argIndex);
+        }
+    }
+}
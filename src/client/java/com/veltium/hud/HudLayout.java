@@ -0,0 +1,128 @@
+package com.veltium.hud;
+
+import com.veltium.config.YACLConfig;
+import net.minecraft.client.gui.Font;
+import net.minecraft.client.gui.GuiGraphicsExtractor;
+
+import java.util.List;
+
+/**
+ * Screen positions for the HUD, resolved once from the anchor, corner snap, offsets and scale.
+ * The plan is recompiled only when the visible lines change, a new config snapshot is
+ * published or the scaled screen size changes (window resize or GUI scale); every other frame
+ * just walks the precomputed positions.
+ */
+public final class HudLayout {
+    private static final int BOTTOM_CENTER_MARGIN = 39;
+
+    // With a background the whole panel is one element at panelX/panelY
+    private boolean panelMode;
+    private int panelX;
+    private int panelY;
+
+    private HudLine[] lines = new HudLine[16];
+    private int[] lineX = new int[16];
+    private int[] lineY = new int[16];
+    private int lineCount;
+
+    private float scale;
+    private boolean shadow;
+
+    private YACLConfig builtConfig;
+    private int builtScreenWidth = -1;
+    private int builtScreenHeight = -1;
+
+    /** True if the plan was compiled for this config snapshot and scaled screen size. */
+    public boolean isCurrent(YACLConfig config, int screenWidth, int screenHeight) {
+        return builtConfig == config && builtScreenWidth == screenWidth && builtScreenHeight == screenHeight;
+    }
+
+    public void compile(List<HudLine> visibleLines, HudPanel panel, int screenWidth, int screenHeight, YACLConfig config) {
+        builtConfig = config;
+        builtScreenWidth = screenWidth;
+        builtScreenHeight = screenHeight;
+        scale = config.hudScale;
+        shadow = config.hudShadow;
+        panelMode = config.hudBackgroundEnabled;
+
+        if (panelMode) {
+            int scaledWidth = (int)(panel.width() * scale);
+            int scaledHeight = (int)(panel.height() * scale);
+            panelX = clampToScreen(anchorX(scaledWidth, screenWidth, config), screenWidth, scaledWidth);
+            panelY = clampToScreen(anchorY(scaledHeight, screenHeight, config), screenHeight, scaledHeight);
+            lineCount = 0;
+            return;
+        }
+
+        lineCount = visibleLines.size();
+        if (lines.length < lineCount) {
+            lines = new HudLine[lineCount];
+            lineX = new int[lineCount];
+            lineY = new int[lineCount];
+        }
+
+        int scaledLineHeight = (int)(HudPanel.LINE_HEIGHT * scale);
+        int blockTop = anchorY((int)(lineCount * HudPanel.LINE_HEIGHT * scale), screenHeight, config);
+
+        for (int i = 0; i < lineCount; i++) {
+            HudLine line = visibleLines.get(i);
+            int scaledWidth = (int)(line.width() * scale);
+            lines[i] = line;
+            lineX[i] = clampToScreen(anchorX(scaledWidth, screenWidth, config), screenWidth, scaledWidth);
+            lineY[i] = clampToScreen(blockTop + (int)(i * HudPanel.LINE_HEIGHT * scale), screenHeight, scaledLineHeight);
+        }
+    }
+
+    public void render(GuiGraphicsExtractor guiGraphics, Font font, HudPanel panel) {
+        if (panelMode) {
+            guiGraphics.pose().pushMatrix();
+            guiGraphics.pose().translate((float) panelX, (float) panelY);
+            guiGraphics.pose().scale(scale, scale);
+            panel.render(guiGraphics, font, shadow);
+            guiGraphics.pose().popMatrix();
+            return;
+        }
+
+        for (int i = 0; i < lineCount; i++) {
+            guiGraphics.pose().pushMatrix();
+            guiGraphics.pose().translate((float) lineX[i], (float) lineY[i]);
+            guiGraphics.pose().scale(scale, scale);
+            lines[i].render(guiGraphics, font, 0, 0, shadow);
+            guiGraphics.pose().popMatrix();
+        }
+    }
+
+    private static int anchorX(int scaledWidth, int screenWidth, YACLConfig config) {
+        if (config.cornerSnap) {
+            return switch (config.hudPosition) {
+                case TOP_RIGHT, BOTTOM_RIGHT   -> screenWidth - scaledWidth - 1;
+                case TOP_CENTER, BOTTOM_CENTER -> (screenWidth - scaledWidth) / 2;
+                default                        -> 1;
+            };
+        }
+        return switch (config.hudPosition) {
+            case TOP_RIGHT, BOTTOM_RIGHT   -> Math.max(0, screenWidth - scaledWidth - config.hudX);
+            case TOP_CENTER, BOTTOM_CENTER -> (screenWidth - scaledWidth) / 2;
+            default                        -> Math.max(0, config.hudX);
+        };
+    }
+
+    private static int anchorY(int scaledHeight, int screenHeight, YACLConfig config) {
+        if (config.cornerSnap) {
+            return switch (config.hudPosition) {
+                case BOTTOM_LEFT, BOTTOM_RIGHT -> screenHeight - scaledHeight - 1;
+                case BOTTOM_CENTER             -> screenHeight - BOTTOM_CENTER_MARGIN - scaledHeight;
+                default                        -> 1;
+            };
+        }
+        return switch (config.hudPosition) {
+            case BOTTOM_LEFT, BOTTOM_RIGHT -> Math.max(0, screenHeight - scaledHeight - config.hudY);
+            case BOTTOM_CENTER             -> screenHeight - BOTTOM_CENTER_MARGIN - scaledHeight - config.hudY;
+            default                        -> Math.max(0, config.hudY);
+        };
+    }
+
+    private static int clampToScreen(int position, int screenSize, int elementSize) {
+        return Math.max(0, Math.min(position, Math.max(0, screenSize - elementSize)));
+    }
+}
@@ -0,0 +1,52 @@
+package com.veltium.hud;
+
+import net.minecraft.client.gui.Font;
+import net.minecraft.client.gui.GuiGraphicsExtractor;
+import net.minecraft.network.chat.Component;
+
+/**
+ * One retained HUD line: the final styled component, its color and the measured width.
+ * The line is only rebuilt when the values it was built from change, so drawing it every
+ * frame costs no string building or font measuring. Multi-colored lines (coordinates) are
+ * a single component with colored siblings, so every line is exactly one text draw.
+ */
+public final class HudLine {
+    private Component component = Component.empty();
+    private int color;
+    private int width;
+
+    private long key0, key1, key2, key3;
+    private boolean valid;
+
+    /**
+     * Returns {@code true} (and remembers the new key) when the values this line
+     * was built from differ from the given ones.
+     */
+    public boolean isStale(long a, long b, long c, long d) {
+        if (valid && key0 == a && key1 == b && key2 == c && key3 == d) return false;
+        key0 = a;
+        key1 = b;
+        key2 = c;
+        key3 = d;
+        valid = true;
+        return true;
+    }
+
+    public void invalidate() {
+        valid = false;
+    }
+
+    public void set(Font font, Component component, int argb) {
+        this.component = component;
+        this.color = argb;
+        this.width = font.width(component);
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public void render(GuiGraphicsExtractor guiGraphics, Font font, int x, int y, boolean shadow) {
+        guiGraphics.text(font, component, x, y, color, shadow);
+    }
+}
@@ -0,0 +1,97 @@
+package com.veltium.hud;
+
+import com.veltium.config.YACLConfig;
+import net.minecraft.client.gui.Font;
+import net.minecraft.client.gui.GuiGraphicsExtractor;
+
+import java.util.List;
+
+/**
+ * Pre-baked draw list for the HUD panel with a background: the background rectangles,
+ * their color and each line's offset inside the panel. It is only re-baked when a line,
+ * the config or the font changes; every other frame just replays the cached draws.
+ */
+public final class HudPanel {
+    public static final int LINE_HEIGHT = 10;
+    public static final int PADDING_X = 5;
+    public static final int PADDING_TOP = 3;
+    public static final int PADDING_BOTTOM = 3;
+    public static final int CORNER_CUT = 2;
+
+    private HudLine[] lines = new HudLine[16];
+    private int[] lineX = new int[16];
+    private int lineCount;
+
+    // up to three background rectangles: x1, y1, x2, y2
+    private final int[] rects = new int[12];
+    private int rectCount;
+    private int backgroundColor;
+
+    private int width;
+    private int height;
+
+    public void bake(List<HudLine> visibleLines, int maxTextWidth, int fontLineHeight, YACLConfig config) {
+        lineCount = visibleLines.size();
+        if (lines.length < lineCount) {
+            lines = new HudLine[lineCount];
+            lineX = new int[lineCount];
+        }
+
+        width = maxTextWidth + PADDING_X * 2;
+        height = lineCount == 0 ? 0 : (lineCount - 1) * LINE_HEIGHT + fontLineHeight + PADDING_TOP + PADDING_BOTTOM;
+
+        for (int i = 0; i < lineCount; i++) {
+            HudLine line = visibleLines.get(i);
+            lines[i] = line;
+            lineX[i] = switch (config.hudPosition) {
+                case TOP_RIGHT, BOTTOM_RIGHT -> PADDING_X + maxTextWidth - line.width();
+                case TOP_CENTER, BOTTOM_CENTER -> PADDING_X + (maxTextWidth - line.width()) / 2;
+                default -> PADDING_X;
+            };
+        }
+
+        bakeBackground(config);
+    }
+
+    private void bakeBackground(YACLConfig config) {
+        rectCount = 0;
+        int alpha = (int)(Math.max(0.0f, Math.min(1.0f, config.hudBackgroundOpacity)) * 255);
+        if (alpha <= 0 || lineCount == 0) return;
+
+        backgroundColor = (alpha << 24) | (config.hudBackgroundColor & 0xFFFFFF);
+        int cornerCut = config.hudBackgroundCorners ? CORNER_CUT : 0;
+        int cut = Math.max(0, Math.min(cornerCut, Math.min(width, height) / 2));
+
+        if (cut == 0) {
+            addRect(0, 0, width, height);
+            return;
+        }
+
+        addRect(cut, 0, width - cut, cut);
+        addRect(0, cut, width, height - cut);
+        addRect(cut, height - cut, width - cut, height);
+    }
+
+    private void addRect(int x1, int y1, int x2, int y2) {
+        int offset = rectCount * 4;
+        rects[offset] = x1;
+        rects[offset + 1] = y1;
+        rects[offset + 2] = x2;
+        rects[offset + 3] = y2;
+        rectCount++;
+    }
+
+    public int width() { return width; }
+    public int height() { return height; }
+
+    /** Draws the panel at the current pose origin. */
+    public void render(GuiGraphicsExtractor guiGraphics, Font font, boolean shadow) {
+        for (int i = 0; i < rectCount; i++) {
+            int offset = i * 4;
+            guiGraphics.fill(rects[offset], rects[offset + 1], rects[offset + 2], rects[offset + 3], backgroundColor);
+        }
+        for (int i = 0; i < lineCount; i++) {
+            lines[i].render(guiGraphics, font, lineX[i], PADDING_TOP + i * LINE_HEIGHT, shadow);
+        }
+    }
+}
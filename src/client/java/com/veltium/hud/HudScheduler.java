@@ -0,0 +1,97 @@
+package com.veltium.hud;
+
+import com.veltium.config.YACLConfig;
+import com.veltium.stats.MetricSnapshot;
+import net.minecraft.client.Minecraft;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Calls the registered {@link HudWidget}s that are due this frame and assembles the visible
+ * lines. A widget that is not due contributes the lines from its last update, so a slow
+ * widget costs one time comparison per frame.
+ */
+public final class HudScheduler {
+    private final HudContext context;
+
+    private HudWidget[] widgets = new HudWidget[0];
+    private long[] nextUpdate = new long[0];
+    private final List<List<HudLine>> widgetLines = new ArrayList<>();
+    private boolean[] failed = new boolean[0];
+    private int registryVersion = -1;
+
+    private HudLine[] previous = new HudLine[0];
+
+    public HudScheduler(HudContext context) {
+        this.context = context;
+    }
+
+    /** Rebuilds every widget on the next frame. */
+    public void invalidate() {
+        for (HudWidget widget : widgets) widget.invalidate();
+        Arrays.fill(nextUpdate, 0);
+    }
+
+    /**
+     * Updates the due widgets and refills {@code visibleLines}. Returns {@code true} when a
+     * line was rebuilt or the set of visible lines changed, i.e. when the panel and layout
+     * need re-baking.
+     */
+    public boolean update(Minecraft client, YACLConfig config, MetricSnapshot sample, List<HudLine> visibleLines) {
+        syncRegistry();
+
+        long now = System.currentTimeMillis();
+        context.begin(client, config, sample, now);
+
+        for (int i = 0; i < widgets.length; i++) {
+            if (failed[i] || now < nextUpdate[i]) continue;
+
+            List<HudLine> lines = widgetLines.get(i);
+            lines.clear();
+            try {
+                widgets[i].update(context, lines);
+                nextUpdate[i] = now + Math.max(0, widgets[i].updateIntervalMillis(config));
+            } catch (RuntimeException e) {
+                // A broken third-party widget must not take the whole HUD down with it
+                failed[i] = true;
+                lines.clear();
+                System.err.println("Veltium: HUD widget " + widgets[i].getClass().getName() + " failed and was disabled: " + e);
+            }
+        }
+
+        visibleLines.clear();
+        for (List<HudLine> lines : widgetLines) visibleLines.addAll(lines);
+
+        boolean changed = context.consumeLinesChanged();
+        if (!sameLines(visibleLines)) {
+            previous = visibleLines.toArray(new HudLine[0]);
+            changed = true;
+        }
+        return changed;
+    }
+
+    private boolean sameLines(List<HudLine> lines) {
+        if (lines.size() != previous.length) return false;
+        for (int i = 0; i < previous.length; i++) {
+            if (lines.get(i) != previous[i]) return false;
+        }
+        return true;
+    }
+
+    private void syncRegistry() {
+        int version = HudWidgets.version();
+        if (version == registryVersion) return;
+        registryVersion = version;
+
+        widgets = HudWidgets.all().toArray(new HudWidget[0]);
+        nextUpdate = new long[widgets.length];
+        failed = new boolean[widgets.length];
+        widgetLines.clear();
+        for (HudWidget widget : widgets) {
+            widget.invalidate();
+            widgetLines.add(new ArrayList<>());
+        }
+    }
+}
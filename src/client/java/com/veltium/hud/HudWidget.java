@@ -0,0 +1,28 @@
+package com.veltium.hud;
+
+import com.veltium.config.YACLConfig;
+
+import java.util.List;
+
+/**
+ * One block of HUD lines with its own refresh cadence. {@link HudScheduler} calls
+ * {@link #update} only when the widget is due; in between, the lines it appended last time
+ * are drawn again unchanged. Widgets own their {@link HudLine}s and rebuild one only when
+ * {@link HudLine#isStale} reports that its inputs changed.
+ *
+ * <p>Other mods add widgets through {@link HudWidgets#register}. They are drawn below the
+ * built-in ones, in registration order.
+ */
+public interface HudWidget {
+    /** Milliseconds between updates; {@code 0} updates every frame. */
+    long updateIntervalMillis(YACLConfig config);
+
+    /**
+     * Refreshes this widget's lines and appends the ones to show, top to bottom. Appending
+     * nothing hides the widget until its next update.
+     */
+    void update(HudContext context, List<HudLine> out);
+
+    /** Forgets built lines so the next update rebuilds them, e.g. after a config or language change. */
+    void invalidate();
+}
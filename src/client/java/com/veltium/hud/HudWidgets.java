@@ -0,0 +1,69 @@
+package com.veltium.hud;
+
+import com.veltium.hud.widget.ChunkWidget;
+import com.veltium.hud.widget.ClockWidget;
+import com.veltium.hud.widget.CoordinatesWidget;
+import com.veltium.hud.widget.DaysWidget;
+import com.veltium.hud.widget.FpsWidget;
+import com.veltium.hud.widget.FrameTimeWidget;
+import com.veltium.hud.widget.GcWidget;
+import com.veltium.hud.widget.JfrWidget;
+import com.veltium.hud.widget.MemoryWidget;
+import com.veltium.hud.widget.NetworkWidget;
+import com.veltium.hud.widget.PingWidget;
+import com.veltium.hud.widget.RenderCostWidget;
+import com.veltium.hud.widget.ServerEstimateWidget;
+import com.veltium.hud.widget.ServerTickWidget;
+import com.veltium.hud.widget.SodiumChunkWidget;
+import com.veltium.hud.widget.ThreadWidget;
+import com.veltium.hud.widget.WorldTimeWidget;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Registry of HUD widgets, in drawing order. The built-in widgets are registered when the
+ * class loads, so widgets from other mods always come after them whatever the entrypoint
+ * order. Safe to call from any thread.
+ */
+public final class HudWidgets {
+    private static final List<HudWidget> WIDGETS = new CopyOnWriteArrayList<>(List.of(
+            new FpsWidget(),
+            new FrameTimeWidget(),
+            new MemoryWidget(),
+            new GcWidget(),
+            new JfrWidget(),
+            new ThreadWidget(),
+            new PingWidget(),
+            new NetworkWidget(),
+            new ServerTickWidget(),
+            new ServerEstimateWidget(),
+            new ChunkWidget(),
+            new SodiumChunkWidget(),
+            new CoordinatesWidget(),
+            new ClockWidget(),
+            new DaysWidget(),
+            new WorldTimeWidget(),
+            new RenderCostWidget()));
+    private static final AtomicInteger version = new AtomicInteger();
+
+    private HudWidgets() {}
+
+    public static void register(HudWidget widget) {
+        WIDGETS.add(widget);
+        version.incrementAndGet();
+    }
+
+    public static void unregister(HudWidget widget) {
+        if (WIDGETS.remove(widget)) version.incrementAndGet();
+    }
+
+    static List<HudWidget> all() {
+        return WIDGETS;
+    }
+
+    static int version() {
+        return version.get();
+    }
+}
@@ -0,0 +1,76 @@
+package com.veltium.hud.widget;
+
+import com.veltium.config.YACLConfig;
+import com.veltium.hud.HudContext;
+import com.veltium.hud.HudFormatter;
+import com.veltium.hud.HudLine;
+import com.veltium.hud.HudWidget;
+import com.veltium.stats.ChunkStats;
+import com.veltium.stats.SodiumChunkStats;
+
+import java.util.List;
+
+/**
+ * Chunk streaming: the received rate against the rate the client asked for, per-chunk decode
+ * and apply time, and the loaded, light and meshing backlog.
+ */
+public final class ChunkWidget implements HudWidget {
+    private static final long SODIUM_STATS_TIMEOUT = 3_000_000_000L;
+
+    private final HudLine streamLine = new HudLine();
+    private final HudLine backlogLine = new HudLine();
+
+    @Override
+    public long updateIntervalMillis(YACLConfig config) {
+        return config.hudUpdateInterval;
+    }
+
+    @Override
+    public void update(HudContext context, List<HudLine> out) {
+        YACLConfig config = context.config();
+        ChunkStats.Snapshot chunks = ChunkStats.snapshot();
+        if (!config.showChunkStats || context.client().level == null || chunks.isEmpty()) return;
+
+        if (streamLine.isStale(HudContext.tenths(chunks.receivedPerSecond()), HudContext.tenths(chunks.requestedPerSecond()),
+                HudContext.tenths(chunks.decodeMillisPerChunk()), HudContext.tenths(chunks.applyMillisPerChunk()))) {
+            HudFormatter formatter = context.formatter().begin("text.optimizationmod.hud.chunk_stream")
+                    .argDecimal(chunks.receivedPerSecond());
+            if (chunks.requestedPerSecond() >= 0) {
+                formatter.argDecimal(chunks.requestedPerSecond());
+            } else {
+                formatter.argText("-");
+            }
+            formatter.argDecimal(chunks.decodeMillisPerChunk()).argDecimal(chunks.applyMillisPerChunk());
+            context.setLine(streamLine, formatter.build(), config.timeColor, false);
+        }
+        out.add(streamLine);
+
+        // Under Sodium the vanilla compiler is idle; its own queue is the meshing backlog
+        int meshQueue = chunks.meshQueue();
+        SodiumChunkStats.Snapshot sodium = SodiumChunkStats.snapshot();
+        if (meshQueue < 0 && !sodium.isEmpty() && System.nanoTime() - sodium.publishedAt() < SODIUM_STATS_TIMEOUT) {
+            meshQueue = sodium.queuedJobs();
+        }
+
+        if (backlogLine.isStale(((long) chunks.loadedChunks() << 32) | chunks.targetChunks(), chunks.lightQueue(), meshQueue, 0)) {
+            HudFormatter formatter = context.formatter().begin("text.optimizationmod.hud.chunk_backlog")
+                    .argInt(chunks.loadedChunks())
+                    .argInt(chunks.targetChunks())
+                    .argInt(chunks.lightQueue());
+            if (meshQueue >= 0) {
+                formatter.argInt(meshQueue);
+            } else {
+                formatter.argText("-");
+            }
+            boolean filled = chunks.loadedChunks() >= chunks.targetChunks() * 0.95;
+            context.setLine(backlogLine, formatter.build(), filled ? config.fpsGoodColor : config.fpsMediumColor, false);
+        }
+        out.add(backlogLine);
+    }
+
+    @Override
+    public void invalidate() {
+        streamLine.invalidate();
+        backlogLine.invalidate();
+    }
+}
@@ -0,0 +1,44 @@
+package com.veltium.hud.widget;
+
+import com.veltium.config.YACLConfig;
+import com.veltium.hud.HudContext;
+import com.veltium.hud.HudLine;
+import com.veltium.hud.HudWidget;
+
+import java.util.List;
+import java.util.TimeZone;
+
+/** Real-world time. Checked a few times a second and rebuilt only when the second changes. */
+public final class ClockWidget implements HudWidget {
+    private static final long INTERVAL_MILLIS = 200;
+
+    private final HudLine line = new HudLine();
+    private final TimeZone timeZone = TimeZone.getDefault();
+
+    @Override
+    public long updateIntervalMillis(YACLConfig config) {
+        return INTERVAL_MILLIS;
+    }
+
+    @Override
+    public void update(HudContext context, List<HudLine> out) {
+        YACLConfig config = context.config();
+        if (!config.showTime) return;
+
+        long now = context.nowMillis();
+        if (line.isStale(now / 1000L, 0, 0, 0)) {
+            long localMillis = now + timeZone.getOffset(now);
+            int secondOfDay = (int) Math.floorMod(localMillis / 1000L, 86400L);
+            String timeText = context.formatter().begin("text.optimizationmod.hud.time")
+                    .argClock(secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60)
+                    .build();
+            context.setLine(line, timeText, config.timeColor, false);
+        }
+        out.add(line);
+    }
+
+    @Override
+    public void invalidate() {
+        line.invalidate();
+    }
+}
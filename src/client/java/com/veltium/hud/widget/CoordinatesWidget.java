@@ -0,0 +1,71 @@
+package com.veltium.hud.widget;
+
+import com.veltium.config.YACLConfig;
+import com.veltium.hud.HudContext;
+import com.veltium.hud.HudLine;
+import com.veltium.hud.HudWidget;
+import net.minecraft.client.player.LocalPlayer;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.MutableComponent;
+
+import java.util.List;
+
+/** Updated every frame: the position changes with the camera, and an unchanged one costs three comparisons. */
+public final class CoordinatesWidget implements HudWidget {
+    private final HudLine line = new HudLine();
+
+    @Override
+    public long updateIntervalMillis(YACLConfig config) {
+        return 0;
+    }
+
+    @Override
+    public void update(HudContext context, List<HudLine> out) {
+        LocalPlayer player = context.client().player;
+        if (!context.config().showCoordinates || player == null) return;
+
+        if (context.config().coordinatesShowDecimals) {
+            long x = Math.round(player.getX() * 10.0);
+            long y = Math.round(player.getY() * 10.0);
+            long z = Math.round(player.getZ() * 10.0);
+            if (line.isStale(x, y, z, 1)) {
+                setCoordinates(context, context.formatter().begin("text.optimizationmod.hud.coordinates")
+                        .argDecimal(x / 10.0).argDecimal(y / 10.0).argDecimal(z / 10.0).build());
+            }
+        } else {
+            int x = (int) Math.round(player.getX());
+            int y = (int) Math.round(player.getY());
+            int z = (int) Math.round(player.getZ());
+            if (line.isStale(x, y, z, 0)) {
+                setCoordinates(context, context.formatter().begin("text.optimizationmod.hud.coordinates_int")
+                        .argInt(x).argInt(y).argInt(z).build());
+            }
+        }
+        out.add(line);
+    }
+
+    private void setCoordinates(HudContext context, String text) {
+        YACLConfig config = context.config();
+        int colonIndex = text.indexOf(':');
+        String[] parts = colonIndex == -1 ? null : text.substring(colonIndex + 2).trim().split(" ");
+
+        if (!config.enableCoordinateColors || parts == null || parts.length < 3) {
+            context.setLine(line, text, config.coordinatesColor, false);
+            return;
+        }
+
+        // One component with colored siblings: a single text draw instead of six
+        MutableComponent coordinates = context.text(text.substring(0, colonIndex + 2), false)
+                .append(Component.literal(parts[0]).withColor(config.coordinatesXColor & 0xFFFFFF))
+                .append(" ")
+                .append(Component.literal(parts[1]).withColor(config.coordinatesYColor & 0xFFFFFF))
+                .append(" ")
+                .append(Component.literal(parts[2]).withColor(config.coordinatesZColor & 0xFFFFFF));
+        context.setLine(line, coordinates, config.coordinatesColor);
+    }
+
+    @Override
+    public void invalidate() {
+        line.invalidate();
+    }
+}
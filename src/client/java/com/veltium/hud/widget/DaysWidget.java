@@ -0,0 +1,38 @@
+package com.veltium.hud.widget;
+
+import com.veltium.config.YACLConfig;
+import com.veltium.hud.HudContext;
+import com.veltium.hud.HudLine;
+import com.veltium.hud.HudWidget;
+
+import java.util.List;
+
+/** World day counter; a day lasts twenty minutes, so once a second is plenty. */
+public final class DaysWidget implements HudWidget {
+    private static final long INTERVAL_MILLIS = 1000;
+
+    private final HudLine line = new HudLine();
+
+    @Override
+    public long updateIntervalMillis(YACLConfig config) {
+        return INTERVAL_MILLIS;
+    }
+
+    @Override
+    public void update(HudContext context, List<HudLine> out) {
+        YACLConfig config = context.config();
+        long days = context.sample().days();
+        if (!config.showDays || context.client().level == null || days < 0) return;
+
+        if (line.isStale(days, 0, 0, 0)) {
+            String daysText = context.formatter().begin("text.optimizationmod.hud.days").argInt(days).build();
+            context.setLine(line, daysText, config.daysColor, false);
+        }
+        out.add(line);
+    }
+
+    @Override
+    public void invalidate() {
+        line.invalidate();
+    }
+}
@@ -0,0 +1,42 @@
+package com.veltium.hud.widget;
+
+import com.veltium.config.YACLConfig;
+import com.veltium.hud.HudContext;
+import com.veltium.hud.HudLine;
+import com.veltium.hud.HudWidget;
+import com.veltium.stats.MetricSnapshot;
+
+import java.util.List;
+
+public final class FpsWidget implements HudWidget {
+    private final HudLine line = new HudLine();
+
+    @Override
+    public long updateIntervalMillis(YACLConfig config) {
+        return config.hudUpdateInterval;
+    }
+
+    @Override
+    public void update(HudContext context, List<HudLine> out) {
+        YACLConfig config = context.config();
+        if (!config.showFpsCounter) return;
+
+        MetricSnapshot sample = context.sample();
+        int fps = sample.fps();
+        boolean advanced = config.showAdvancedFps;
+
+        if (line.isStale(fps, advanced ? sample.fpsMin() : -1, advanced ? sample.fpsAvg() : -1, advanced ? sample.fpsMax() : -1)) {
+            String fpsText = advanced
+                    ? context.formatter().begin("text.optimizationmod.hud.fps_stats")
+                            .argInt(fps).argInt(sample.fpsMin()).argInt(sample.fpsAvg()).argInt(sample.fpsMax()).build()
+                    : context.formatter().begin("text.optimizationmod.hud.fps").argInt(fps).build();
+            context.setLine(line, fpsText, config.getFpsColor(fps), false);
+        }
+        out.add(line);
+    }
+
+    @Override
+    public void invalidate() {
+        line.invalidate();
+    }
+}
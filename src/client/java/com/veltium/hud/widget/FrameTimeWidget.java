@@ -0,0 +1,59 @@
+package com.veltium.hud.widget;
+
+import com.veltium.config.YACLConfig;
+import com.veltium.hud.HudContext;
+import com.veltium.hud.HudLine;
+import com.veltium.hud.HudWidget;
+import com.veltium.stats.FrameStats;
+import com.veltium.stats.FrameTimeHistogram;
+
+import java.util.List;
+
+/** Frame time average and percentiles plus the 1% and 0.1% lows, from the render thread's histogram. */
+public final class FrameTimeWidget implements HudWidget {
+    private final HudLine frameTimeLine = new HudLine();
+    private final HudLine lowsLine = new HudLine();
+
+    @Override
+    public long updateIntervalMillis(YACLConfig config) {
+        return config.hudUpdateInterval;
+    }
+
+    @Override
+    public void update(HudContext context, List<HudLine> out) {
+        YACLConfig config = context.config();
+        FrameTimeHistogram frames = FrameStats.histogram();
+        if (!config.showFrameTimes || frames.isEmpty()) return;
+
+        double average = frames.averageMillis();
+        double p50 = frames.percentileMillis(0.50);
+        double p99 = frames.percentileMillis(0.99);
+        double p999 = frames.percentileMillis(0.999);
+        int low1 = frames.lowFps(0.01);
+        int low01 = frames.lowFps(0.001);
+
+        if (frameTimeLine.isStale(HudContext.tenths(average), HudContext.tenths(p50), HudContext.tenths(p99), HudContext.tenths(p999))) {
+            String frameText = context.formatter().begin("text.optimizationmod.hud.frame_time")
+                    .argDecimal(average)
+                    .argDecimal(p50)
+                    .argDecimal(p99)
+                    .argDecimal(p999)
+                    .build();
+            context.setLine(frameTimeLine, frameText, config.getFpsColor(low1), false);
+        }
+        out.add(frameTimeLine);
+
+        if (lowsLine.isStale(low1, low01, 0, 0)) {
+            String lowsText = context.formatter().begin("text.optimizationmod.hud.frame_lows")
+                    .argInt(low1).argInt(low01).build();
+            context.setLine(lowsLine, lowsText, config.getFpsColor(low01), false);
+        }
+        out.add(lowsLine);
+    }
+
+    @Override
+    public void invalidate() {
+        frameTimeLine.invalidate();
+        lowsLine.invalidate();
+    }
+}
@@ -0,0 +1,56 @@
+package com.veltium.hud.widget;
+
+import com.veltium.config.YACLConfig;
+import com.veltium.hud.HudContext;
+import com.veltium.hud.HudFormatter;
+import com.veltium.hud.HudLine;
+import com.veltium.hud.HudWidget;
+import com.veltium.stats.GcMonitor;
+
+import java.util.List;
+
+public final class GcWidget implements HudWidget {
+    private final HudLine gcLine = new HudLine();
+    private final HudLine allocationLine = new HudLine();
+
+    @Override
+    public long updateIntervalMillis(YACLConfig config) {
+        return config.hudUpdateInterval;
+    }
+
+    @Override
+    public void update(HudContext context, List<HudLine> out) {
+        YACLConfig config = context.config();
+        if (!config.showGcStats || !context.sample().gcSampled()) return;
+
+        GcMonitor.Snapshot gc = context.sample().gc();
+        if (gcLine.isStale(gc.collectionsPerMinute(), HudContext.tenths(gc.lastPauseMillis()), HudContext.tenths(gc.worstPauseMillis()), 0)) {
+            String gcText = context.formatter().begin("text.optimizationmod.hud.gc")
+                    .argInt(gc.collectionsPerMinute())
+                    .argDecimal(gc.lastPauseMillis())
+                    .argDecimal(gc.worstPauseMillis())
+                    .build();
+            context.setLine(gcLine, gcText, config.getPauseColor(gc.worstPauseMillis()), false);
+        }
+        out.add(gcLine);
+
+        if (allocationLine.isStale(HudContext.tenths(gc.allocationMbPerSecond()), HudContext.tenths(gc.oldGenPercent()), 0, 0)) {
+            HudFormatter formatter = context.formatter();
+            formatter.begin("text.optimizationmod.hud.allocation").argDecimal(gc.allocationMbPerSecond());
+            if (gc.oldGenPercent() >= 0) {
+                formatter.argPercent(gc.oldGenPercent());
+            } else {
+                formatter.argText("-");
+            }
+            int color = gc.oldGenPercent() >= 0 ? config.getMemoryColor(gc.oldGenPercent()) : config.getMemoryColor(0);
+            context.setLine(allocationLine, formatter.build(), color, false);
+        }
+        out.add(allocationLine);
+    }
+
+    @Override
+    public void invalidate() {
+        gcLine.invalidate();
+        allocationLine.invalidate();
+    }
+}
@@ -0,0 +1,62 @@
+package com.veltium.hud.widget;
+
+import com.veltium.config.YACLConfig;
+import com.veltium.hud.HudContext;
+import com.veltium.hud.HudFormatter;
+import com.veltium.hud.HudLine;
+import com.veltium.hud.HudWidget;
+import com.veltium.stats.JfrMonitor;
+
+import java.util.List;
+
+public final class JfrWidget implements HudWidget {
+    private final HudLine stallLine = new HudLine();
+    private final HudLine ioLine = new HudLine();
+
+    @Override
+    public long updateIntervalMillis(YACLConfig config) {
+        return config.hudUpdateInterval;
+    }
+
+    @Override
+    public void update(HudContext context, List<HudLine> out) {
+        YACLConfig config = context.config();
+        if (!config.showJfrStats || !context.sample().jfrRunning()) return;
+
+        JfrMonitor.Snapshot jfr = context.sample().jfr();
+        HudFormatter formatter = context.formatter();
+        if (stallLine.isStale(((long) jfr.gcPauses() << 32) | HudContext.tenths(jfr.gcWorstMillis()),
+                ((long) jfr.safepoints() << 32) | HudContext.tenths(jfr.safepointWorstMillis()),
+                ((long) jfr.renderStalls() << 32) | HudContext.tenths(jfr.renderStallWorstMillis()), 0)) {
+            String jfrText = formatter.begin("text.optimizationmod.hud.jfr")
+                    .argInt(jfr.gcPauses()).argDecimal(jfr.gcWorstMillis())
+                    .argInt(jfr.safepoints()).argDecimal(jfr.safepointWorstMillis())
+                    .argInt(jfr.renderStalls()).argDecimal(jfr.renderStallWorstMillis())
+                    .build();
+            double worstStall = Math.max(jfr.gcWorstMillis(), Math.max(jfr.safepointWorstMillis(), jfr.renderStallWorstMillis()));
+            context.setLine(stallLine, jfrText, config.getPauseColor(worstStall), false);
+        }
+        out.add(stallLine);
+
+        if (ioLine.isStale(((long) jfr.ioStalls() << 32) | HudContext.tenths(jfr.ioWorstMillis()), jfr.ioWorstTarget().hashCode(),
+                HudContext.tenths(jfr.jvmCpuPercent()), HudContext.tenths(jfr.machineCpuPercent()))) {
+            formatter.begin("text.optimizationmod.hud.jfr_io")
+                    .argInt(jfr.ioStalls())
+                    .argDecimal(jfr.ioWorstMillis())
+                    .argText(jfr.ioWorstTarget().isEmpty() ? "-" : jfr.ioWorstTarget());
+            if (jfr.jvmCpuPercent() >= 0) {
+                formatter.argPercent(jfr.jvmCpuPercent()).argPercent(jfr.machineCpuPercent());
+            } else {
+                formatter.argText("-").argText("-");
+            }
+            context.setLine(ioLine, formatter.build(), config.getPauseColor(jfr.ioWorstMillis()), false);
+        }
+        out.add(ioLine);
+    }
+
+    @Override
+    public void invalidate() {
+        stallLine.invalidate();
+        ioLine.invalidate();
+    }
+}
@@ -0,0 +1,51 @@
+package com.veltium.hud.widget;
+
+import com.veltium.config.YACLConfig;
+import com.veltium.hud.HudContext;
+import com.veltium.hud.HudLine;
+import com.veltium.hud.HudWidget;
+import com.veltium.stats.MetricSnapshot;
+
+import java.util.List;
+
+public final class MemoryWidget implements HudWidget {
+    private final HudLine line = new HudLine();
+
+    @Override
+    public long updateIntervalMillis(YACLConfig config) {
+        return config.hudUpdateInterval;
+    }
+
+    @Override
+    public void update(HudContext context, List<HudLine> out) {
+        YACLConfig config = context.config();
+        if (!config.showMemoryUsage) return;
+
+        MetricSnapshot sample = context.sample();
+        long usedMB = sample.usedMemory() >> 20;
+        long maxMB = sample.maxMemory() >> 20;
+        int percentage = (int)((sample.usedMemory() * 100) / sample.maxMemory());
+        boolean advanced = config.showAdvancedMemory;
+
+        if (line.isStale((usedMB << 7) | percentage, maxMB,
+                advanced ? (HudContext.tenths(sample.memoryMin()) << 32) | HudContext.tenths(sample.memoryMax()) : -1,
+                advanced ? HudContext.tenths(sample.memoryAvg()) : -1)) {
+            String memoryText = advanced
+                    ? context.formatter().begin("text.optimizationmod.hud.memory_stats")
+                            .argMemory(sample.usedMemory(), sample.maxMemory())
+                            .argPercent(sample.memoryMin())
+                            .argPercent(sample.memoryAvg())
+                            .argPercent(sample.memoryMax())
+                            .build()
+                    : context.formatter().begin("text.optimizationmod.hud.memory")
+                            .argInt(usedMB).argInt(maxMB).argInt(percentage).build();
+            context.setLine(line, memoryText, config.getMemoryColor(sample.memoryPercent()), false);
+        }
+        out.add(line);
+    }
+
+    @Override
+    public void invalidate() {
+        line.invalidate();
+    }
+}
@@ -0,0 +1,79 @@
+package com.veltium.hud.widget;
+
+import com.veltium.config.YACLConfig;
+import com.veltium.hud.HudContext;
+import com.veltium.hud.HudLine;
+import com.veltium.hud.HudWidget;
+import com.veltium.stats.NetworkStats;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/** Connection throughput, compression time and the packet types moving the most bytes. */
+public final class NetworkWidget implements HudWidget {
+    private final HudLine trafficLine = new HudLine();
+    private final HudLine compressionLine = new HudLine();
+    private final HudLine[] typeLines = Stream.generate(HudLine::new).limit(NetworkStats.TOP_N).toArray(HudLine[]::new);
+
+    @Override
+    public long updateIntervalMillis(YACLConfig config) {
+        return config.hudUpdateInterval;
+    }
+
+    @Override
+    public void update(HudContext context, List<HudLine> out) {
+        YACLConfig config = context.config();
+        NetworkStats.Snapshot network = NetworkStats.snapshot();
+        if (!config.showNetworkStats || context.client().getConnection() == null || network.isEmpty()) return;
+
+        if (trafficLine.isStale(Math.round(network.packetsInPerSecond()), Math.round(network.packetsOutPerSecond()),
+                HudContext.tenths(network.kilobytesInPerSecond()), HudContext.tenths(network.kilobytesOutPerSecond()))) {
+            String trafficText = context.formatter().begin("text.optimizationmod.hud.network")
+                    .argInt(Math.round(network.packetsInPerSecond()))
+                    .argDecimal(network.kilobytesInPerSecond())
+                    .argInt(Math.round(network.packetsOutPerSecond()))
+                    .argDecimal(network.kilobytesOutPerSecond())
+                    .build();
+            context.setLine(trafficLine, trafficText, config.timeColor, false);
+        }
+        out.add(trafficLine);
+
+        // Compression only runs above the server's threshold; hide the line on uncompressed connections
+        if (network.compressMillisPerSecond() > 0 || network.decompressMillisPerSecond() > 0) {
+            if (compressionLine.isStale(HudContext.tenths(network.decompressMillisPerSecond()),
+                    HudContext.tenths(network.compressMillisPerSecond()), 0, 0)) {
+                String compressionText = context.formatter().begin("text.optimizationmod.hud.network_compression")
+                        .argDecimal(network.decompressMillisPerSecond())
+                        .argDecimal(network.compressMillisPerSecond())
+                        .build();
+                double worst = Math.max(network.decompressMillisPerSecond(), network.compressMillisPerSecond());
+                context.setLine(compressionLine, compressionText, config.getPauseColor(worst), false);
+            }
+            out.add(compressionLine);
+        }
+
+        List<NetworkStats.TypeEntry> top = network.top();
+        for (int i = 0; i < top.size(); i++) {
+            NetworkStats.TypeEntry entry = top.get(i);
+            HudLine line = typeLines[i];
+            if (line.isStale(entry.name().hashCode(), entry.inbound() ? 1 : 0,
+                    HudContext.tenths(entry.kilobytesPerSecond()), Math.round(entry.packetsPerSecond()))) {
+                String typeText = context.formatter().begin("text.optimizationmod.hud.network_entry")
+                        .argText(entry.inbound() ? "↓" : "↑")
+                        .argText(entry.name())
+                        .argDecimal(entry.kilobytesPerSecond())
+                        .argInt(Math.round(entry.packetsPerSecond()))
+                        .build();
+                context.setLine(line, typeText, config.timeColor, false);
+            }
+            out.add(line);
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        trafficLine.invalidate();
+        compressionLine.invalidate();
+        for (HudLine line : typeLines) line.invalidate();
+    }
+}
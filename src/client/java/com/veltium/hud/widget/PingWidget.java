@@ -0,0 +1,66 @@
+package com.veltium.hud.widget;
+
+import com.veltium.config.YACLConfig;
+import com.veltium.hud.HudContext;
+import com.veltium.hud.HudLine;
+import com.veltium.hud.HudWidget;
+import com.veltium.stats.MetricSnapshot;
+import com.veltium.stats.RttMonitor;
+import net.minecraft.client.Minecraft;
+
+import java.util.List;
+
+public final class PingWidget implements HudWidget {
+    private final HudLine line = new HudLine();
+    private final HudLine qualityLine = new HudLine();
+
+    @Override
+    public long updateIntervalMillis(YACLConfig config) {
+        return config.hudUpdateInterval;
+    }
+
+    @Override
+    public void update(HudContext context, List<HudLine> out) {
+        YACLConfig config = context.config();
+        Minecraft client = context.client();
+        if (!config.showPing || client.getConnection() == null) return;
+
+        MetricSnapshot sample = context.sample();
+        boolean isSinglePlayer = client.hasSingleplayerServer();
+        boolean advanced = config.showAdvancedPing;
+        int ping = sample.ping();
+
+        if (line.isStale(ping,
+                advanced ? ((long) sample.pingMin() << 32) | sample.pingMax() : -1,
+                advanced ? sample.pingAvg() : -1,
+                isSinglePlayer ? 1 : 0)) {
+            String pingString = advanced
+                    ? context.formatter().begin("text.optimizationmod.hud.ping_stats")
+                            .argInt(ping).argInt(sample.pingMin()).argInt(sample.pingAvg()).argInt(sample.pingMax()).build()
+                    : context.formatter().begin("text.optimizationmod.hud.ping").argInt(ping).build();
+            int pingColor = isSinglePlayer ? 0x888780 : config.getPingColor(ping);
+            context.setLine(line, pingString, pingColor, isSinglePlayer);
+        }
+        out.add(line);
+
+        RttMonitor.Snapshot rtt = sample.rtt();
+        if (!advanced || rtt.isEmpty()) return;
+
+        if (qualityLine.isStale(HudContext.tenths(rtt.jitterMillis()), HudContext.tenths(rtt.lossPercent()), 0, 0)) {
+            String qualityText = context.formatter().begin("text.optimizationmod.hud.ping_quality")
+                    .argDecimal(rtt.jitterMillis())
+                    .argPercent(rtt.lossPercent())
+                    .build();
+            // Any loss is worth flagging; otherwise color by jitter like a pause
+            int color = rtt.lossPercent() > 0 ? config.pingBadColor : config.getPauseColor(rtt.jitterMillis());
+            context.setLine(qualityLine, qualityText, color, false);
+        }
+        out.add(qualityLine);
+    }
+
+    @Override
+    public void invalidate() {
+        line.invalidate();
+        qualityLine.invalidate();
+    }
+}
@@ -0,0 +1,55 @@
+package com.veltium.hud.widget;
+
+import com.veltium.config.YACLConfig;
+import com.veltium.hud.HudContext;
+import com.veltium.hud.HudLine;
+import com.veltium.hud.HudWidget;
+import com.veltium.stats.RenderCostProfiler;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public final class RenderCostWidget implements HudWidget {
+    private final HudLine headerLine = new HudLine();
+    private final HudLine[] entryLines = Stream.generate(HudLine::new).limit(RenderCostProfiler.TOP_N).toArray(HudLine[]::new);
+
+    @Override
+    public long updateIntervalMillis(YACLConfig config) {
+        return config.hudUpdateInterval;
+    }
+
+    @Override
+    public void update(HudContext context, List<HudLine> out) {
+        YACLConfig config = context.config();
+        List<RenderCostProfiler.Entry> renderCost = RenderCostProfiler.top();
+        if (!config.showRenderCost || renderCost.isEmpty()) return;
+
+        if (headerLine.isStale(0, 0, 0, 0)) {
+            context.setLine(headerLine,
+                    context.formatter().begin("text.optimizationmod.hud.render_cost").build(), config.timeColor, false);
+        }
+        out.add(headerLine);
+
+        for (int i = 0; i < renderCost.size(); i++) {
+            RenderCostProfiler.Entry entry = renderCost.get(i);
+            HudLine line = entryLines[i];
+            if (line.isStale(entry.name().hashCode(), HudContext.tenths(entry.instancesPerFrame()),
+                    HudContext.tenths(entry.microsPerInstance()), HudContext.tenths(entry.millisPerFrame()))) {
+                String costText = context.formatter().begin("text.optimizationmod.hud.render_cost_entry")
+                        .argText(entry.name())
+                        .argDecimal(entry.instancesPerFrame())
+                        .argDecimal(entry.microsPerInstance())
+                        .argDecimal(entry.millisPerFrame())
+                        .build();
+                context.setLine(line, costText, config.getRenderCostColor(entry.millisPerFrame()), false);
+            }
+            out.add(line);
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        headerLine.invalidate();
+        for (HudLine line : entryLines) line.invalidate();
+    }
+}
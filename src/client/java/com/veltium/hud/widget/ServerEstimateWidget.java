@@ -0,0 +1,51 @@
+package com.veltium.hud.widget;
+
+import com.veltium.config.YACLConfig;
+import com.veltium.hud.HudContext;
+import com.veltium.hud.HudLine;
+import com.veltium.hud.HudWidget;
+import com.veltium.stats.ServerTpsEstimator;
+import net.minecraft.locale.Language;
+
+import java.util.List;
+import java.util.Locale;
+
+/** Estimated TPS of a remote server, from how fast its game time advances. */
+public final class ServerEstimateWidget implements HudWidget {
+    private final HudLine line = new HudLine();
+
+    @Override
+    public long updateIntervalMillis(YACLConfig config) {
+        return config.hudUpdateInterval;
+    }
+
+    @Override
+    public void update(HudContext context, List<HudLine> out) {
+        YACLConfig config = context.config();
+        ServerTpsEstimator.Snapshot estimate = ServerTpsEstimator.snapshot();
+        if (!config.showServerEstimate || context.client().hasSingleplayerServer() || estimate.isEmpty()) return;
+
+        ServerTpsEstimator.Confidence confidence = estimate.confidence();
+        if (line.isStale(HudContext.tenths(estimate.tps()), HudContext.tenths(estimate.msptLag()),
+                HudContext.tenths(estimate.targetTps()), confidence.ordinal())) {
+            String confidenceText = Language.getInstance().getOrDefault(
+                    "text.optimizationmod.hud.confidence." + confidence.name().toLowerCase(Locale.ROOT));
+            String estimateText = context.formatter().begin("text.optimizationmod.hud.server_estimate")
+                    .argDecimal(estimate.tps())
+                    .argDecimal(estimate.msptLag())
+                    .argText(confidenceText)
+                    .build();
+            // A low-confidence figure is grayed out rather than colored as good or bad
+            int color = confidence == ServerTpsEstimator.Confidence.LOW
+                    ? 0x888780
+                    : config.getTpsColor(estimate.tps() * 20.0 / estimate.targetTps());
+            context.setLine(line, estimateText, color, false);
+        }
+        out.add(line);
+    }
+
+    @Override
+    public void invalidate() {
+        line.invalidate();
+    }
+}
@@ -0,0 +1,43 @@
+package com.veltium.hud.widget;
+
+import com.veltium.config.YACLConfig;
+import com.veltium.hud.HudContext;
+import com.veltium.hud.HudLine;
+import com.veltium.hud.HudWidget;
+import com.veltium.stats.ServerTickStats;
+
+import java.util.List;
+
+public final class ServerTickWidget implements HudWidget {
+    private final HudLine line = new HudLine();
+
+    @Override
+    public long updateIntervalMillis(YACLConfig config) {
+        return config.hudUpdateInterval;
+    }
+
+    @Override
+    public void update(HudContext context, List<HudLine> out) {
+        YACLConfig config = context.config();
+        ServerTickStats.Snapshot serverTick = ServerTickStats.snapshot();
+        if (!config.showServerTick || !context.client().hasSingleplayerServer() || serverTick.isEmpty()) return;
+
+        if (line.isStale(HudContext.tenths(serverTick.tps()), HudContext.tenths(serverTick.msptAvg()),
+                (HudContext.tenths(serverTick.msptP95()) << 32) | HudContext.tenths(serverTick.msptMax()), serverTick.overloadedTicks())) {
+            String serverText = context.formatter().begin("text.optimizationmod.hud.server_tick")
+                    .argDecimal(serverTick.tps())
+                    .argDecimal(serverTick.msptAvg())
+                    .argDecimal(serverTick.msptP95())
+                    .argDecimal(serverTick.msptMax())
+                    .argInt(serverTick.overloadedTicks())
+                    .build();
+            context.setLine(line, serverText, config.getTpsColor(serverTick.tps()), false);
+        }
+        out.add(line);
+    }
+
+    @Override
+    public void invalidate() {
+        line.invalidate();
+    }
+}
@@ -0,0 +1,59 @@
+package com.veltium.hud.widget;
+
+import com.veltium.config.YACLConfig;
+import com.veltium.hud.HudContext;
+import com.veltium.hud.HudLine;
+import com.veltium.hud.HudWidget;
+import com.veltium.stats.SodiumChunkStats;
+
+import java.util.List;
+
+public final class SodiumChunkWidget implements HudWidget {
+    // Sodium stops publishing when no world is rendered; hide the lines instead of freezing them
+    private static final long STATS_TIMEOUT = 3_000_000_000L;
+
+    private final HudLine buildLine = new HudLine();
+    private final HudLine uploadLine = new HudLine();
+
+    @Override
+    public long updateIntervalMillis(YACLConfig config) {
+        return config.hudUpdateInterval;
+    }
+
+    @Override
+    public void update(HudContext context, List<HudLine> out) {
+        YACLConfig config = context.config();
+        SodiumChunkStats.Snapshot chunks = SodiumChunkStats.snapshot();
+        if (!config.showSodiumStats || chunks.isEmpty() || System.nanoTime() - chunks.publishedAt() >= STATS_TIMEOUT) return;
+
+        if (buildLine.isStale(chunks.queuedJobs(), chunks.buildsPerSecond(),
+                ((long) chunks.busyThreads() << 32) | chunks.totalThreads(), 0)) {
+            String buildText = context.formatter().begin("text.optimizationmod.hud.chunk_builds")
+                    .argInt(chunks.queuedJobs())
+                    .argInt(chunks.buildsPerSecond())
+                    .argInt(chunks.busyThreads())
+                    .argInt(chunks.totalThreads())
+                    .build();
+            boolean saturated = chunks.totalThreads() > 0 && chunks.busyThreads() >= chunks.totalThreads();
+            context.setLine(buildLine, buildText, saturated ? config.fpsMediumColor : config.fpsGoodColor, false);
+        }
+        out.add(buildLine);
+
+        if (uploadLine.isStale(HudContext.tenths(chunks.uploadMillisPerFrame()), HudContext.tenths(chunks.uploadMaxMillis()),
+                chunks.visibleSections(), 0)) {
+            String uploadText = context.formatter().begin("text.optimizationmod.hud.chunk_upload")
+                    .argDecimal(chunks.uploadMillisPerFrame())
+                    .argDecimal(chunks.uploadMaxMillis())
+                    .argInt(chunks.visibleSections())
+                    .build();
+            context.setLine(uploadLine, uploadText, config.getPauseColor(chunks.uploadMaxMillis()), false);
+        }
+        out.add(uploadLine);
+    }
+
+    @Override
+    public void invalidate() {
+        buildLine.invalidate();
+        uploadLine.invalidate();
+    }
+}
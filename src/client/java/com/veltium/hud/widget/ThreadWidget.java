@@ -0,0 +1,65 @@
+package com.veltium.hud.widget;
+
+import com.veltium.config.YACLConfig;
+import com.veltium.hud.HudContext;
+import com.veltium.hud.HudLine;
+import com.veltium.hud.HudWidget;
+import com.veltium.stats.ThreadMonitor;
+import net.minecraft.locale.Language;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/** CPU and contention per thread group, one line each, colored by the busiest thread. */
+public final class ThreadWidget implements HudWidget {
+    private final HudLine[] groupLines = Stream.generate(HudLine::new)
+            .limit(ThreadMonitor.Group.values().length).toArray(HudLine[]::new);
+    private final HudLine vmLine = new HudLine();
+
+    @Override
+    public long updateIntervalMillis(YACLConfig config) {
+        return config.hudUpdateInterval;
+    }
+
+    @Override
+    public void update(HudContext context, List<HudLine> out) {
+        YACLConfig config = context.config();
+        ThreadMonitor.Snapshot threads = context.sample().threads();
+        if (!config.showThreadStats || threads.isEmpty()) return;
+
+        for (ThreadMonitor.GroupEntry entry : threads.groups()) {
+            HudLine line = groupLines[entry.group().ordinal()];
+            // Idle pools wait nearly all the time; per-thread share reads better than summed milliseconds
+            double waitingPercent = entry.waitedMillisPerSecond() / 10.0 / entry.threads();
+            if (line.isStale(((long) entry.threads() << 32) | HudContext.tenths(entry.cpuPercent()),
+                    HudContext.tenths(entry.hottestPercent()), HudContext.tenths(entry.blockedMillisPerSecond()),
+                    HudContext.tenths(waitingPercent))) {
+                String threadText = context.formatter().begin("text.optimizationmod.hud.thread_group")
+                        .argText(Language.getInstance().getOrDefault(entry.group().translationKey()))
+                        .argInt(entry.threads())
+                        .argPercent(entry.cpuPercent())
+                        .argPercent(entry.hottestPercent())
+                        .argDecimal(entry.blockedMillisPerSecond())
+                        .argPercent(waitingPercent)
+                        .build();
+                context.setLine(line, threadText, config.getCpuColor(entry.hottestPercent()), false);
+            }
+            out.add(line);
+        }
+
+        if (threads.vmPercent() < 0) return;
+        if (vmLine.isStale(HudContext.tenths(threads.vmPercent()), 0, 0, 0)) {
+            String vmText = context.formatter().begin("text.optimizationmod.hud.thread_vm")
+                    .argPercent(threads.vmPercent())
+                    .build();
+            context.setLine(vmLine, vmText, config.getCpuColor(threads.vmPercent()), false);
+        }
+        out.add(vmLine);
+    }
+
+    @Override
+    public void invalidate() {
+        for (HudLine line : groupLines) line.invalidate();
+        vmLine.invalidate();
+    }
+}
@@ -0,0 +1,53 @@
+package com.veltium.hud.widget;
+
+import com.veltium.config.YACLConfig;
+import com.veltium.hud.HudContext;
+import com.veltium.hud.HudLine;
+import com.veltium.hud.HudWidget;
+import com.veltium.stats.MetricSnapshot;
+import net.minecraft.locale.Language;
+
+import java.util.List;
+
+/**
+ * Time into the current day-night cycle as minutes and seconds of its 20 real-time minutes:
+ * one displayed second per 20 game ticks, read from the latest sample and redrawn on
+ * {@code hudUpdateInterval} when it changes.
+ */
+public final class WorldTimeWidget implements HudWidget {
+    private final HudLine line = new HudLine();
+
+    @Override
+    public long updateIntervalMillis(YACLConfig config) {
+        return config.hudUpdateInterval;
+    }
+
+    @Override
+    public void update(HudContext context, List<HudLine> out) {
+        YACLConfig config = context.config();
+        MetricSnapshot sample = context.sample();
+        long worldTimeSeconds = sample.worldTimeSeconds();
+        if (!config.showWorldTime || context.client().level == null || worldTimeSeconds < 0) return;
+
+        if (line.isStale(worldTimeSeconds, sample.isDay() ? 1 : 0, 0, 0)) {
+            String phaseKey = sample.isDay()
+                    ? "text.optimizationmod.hud.day"
+                    : "text.optimizationmod.hud.night";
+            String phaseLocalized = Language.getInstance().getOrDefault(phaseKey);
+
+            String worldTimeText = context.formatter().begin("text.optimizationmod.hud.world_time")
+                    .argClock(worldTimeSeconds / 60L, worldTimeSeconds % 60L)
+                    .argText(phaseLocalized)
+                    .build();
+
+            int color = sample.isDay() ? config.dayColor : config.nightColor;
+            context.setLine(line, worldTimeText, color, false);
+        }
+        out.add(line);
+    }
+
+    @Override
+    public void invalidate() {
+        line.invalidate();
+    }
+}
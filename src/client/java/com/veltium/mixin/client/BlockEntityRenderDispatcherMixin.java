@@ -0,0 +1,42 @@
+package com.veltium.mixin.client;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.veltium.stats.RenderCostProfiler;
+import net.minecraft.client.renderer.SubmitNodeCollector;
+import net.minecraft.client.renderer.blockentity.BlockEntityRenderDispatcher;
+import net.minecraft.client.renderer.blockentity.state.BlockEntityRenderState;
+import net.minecraft.client.renderer.feature.ModelFeatureRenderer;
+import net.minecraft.client.renderer.state.CameraRenderState;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(BlockEntityRenderDispatcher.class)
+public class BlockEntityRenderDispatcherMixin {
+	@Inject(method = "tryExtractRenderState", at = @At("HEAD"))
+	private void veltium$beginExtract(BlockEntity blockEntity, float partialTick, ModelFeatureRenderer.CrumblingOverlay breakProgress,
+									  CallbackInfoReturnable<BlockEntityRenderState> info) {
+		RenderCostProfiler.begin();
+	}
+
+	@Inject(method = "tryExtractRenderState", at = @At("RETURN"))
+	private void veltium$endExtract(BlockEntity blockEntity, float partialTick, ModelFeatureRenderer.CrumblingOverlay breakProgress,
+									CallbackInfoReturnable<BlockEntityRenderState> info) {
+		RenderCostProfiler.endBlockEntity(blockEntity.getType(), true);
+	}
+
+	@Inject(method = "submit", at = @At("HEAD"))
+	private void veltium$beginSubmit(BlockEntityRenderState state, PoseStack poseStack, SubmitNodeCollector collector,
+									 CameraRenderState camera, CallbackInfo info) {
+		RenderCostProfiler.begin();
+	}
+
+	@Inject(method = "submit", at = @At("RETURN"))
+	private void veltium$endSubmit(BlockEntityRenderState state, PoseStack poseStack, SubmitNodeCollector collector,
+								   CameraRenderState camera, CallbackInfo info) {
+		RenderCostProfiler.endBlockEntity(state.blockEntityType, false);
+	}
+}
@@ -0,0 +1,13 @@
+package com.veltium.mixin.client;
+
+import net.minecraft.client.multiplayer.ClientLevel;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+import java.util.Deque;
+
+@Mixin(ClientLevel.class)
+public interface ClientLevelAccessor {
+	@Accessor("lightUpdateQueue")
+	Deque<Runnable> veltium$getLightUpdateQueue();
+}
@@ -0,0 +1,67 @@
+package com.veltium.mixin.client;
+
+import com.veltium.stats.ChunkStats;
+import com.veltium.stats.RttMonitor;
+import com.veltium.stats.ServerTpsEstimator;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ChunkBatchSizeCalculator;
+import net.minecraft.client.multiplayer.ClientPacketListener;
+import net.minecraft.network.protocol.game.ClientboundChunkBatchFinishedPacket;
+import net.minecraft.network.protocol.game.ClientboundLevelChunkWithLightPacket;
+import net.minecraft.network.protocol.game.ClientboundSetTimePacket;
+import net.minecraft.network.protocol.ping.ClientboundPongResponsePacket;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(ClientPacketListener.class)
+public class ClientPacketListenerMixin {
+	@Shadow
+	@Final
+	private ChunkBatchSizeCalculator chunkBatchSizeCalculator;
+
+	// Client thread only
+	@Unique
+	private long veltium$chunkApplyStart;
+
+	@Inject(method = "handlePongResponse", at = @At("HEAD"), cancellable = true)
+	private void veltium$onPong(ClientboundPongResponsePacket packet, CallbackInfo info) {
+		// The first call is on the Netty thread, before the packet is queued for the client thread,
+		// so the measured RTT does not include up to a tick of waiting
+		if (RttMonitor.onPong(packet.time(), System.nanoTime())) info.cancel();
+	}
+
+	@Inject(method = "handleSetTime", at = @At("HEAD"))
+	private void veltium$onSetTime(ClientboundSetTimePacket packet, CallbackInfo info) {
+		// The handler runs twice: first on the Netty thread, where the arrival time is accurate,
+		// then again on the client thread once the packet has been queued
+		if (Minecraft.getInstance().isSameThread()) return;
+		ServerTpsEstimator.onTimePacket((ClientPacketListener) (Object) this, packet.gameTime(), System.nanoTime());
+	}
+
+	@Inject(method = "handleLevelChunkWithLight", at = @At("HEAD"))
+	private void veltium$beginChunk(ClientboundLevelChunkWithLightPacket packet, CallbackInfo info) {
+		// Only time the second call, which does the work; the Netty-thread one just queues the packet
+		// and must not touch the field while the client thread may be applying the previous chunk
+		if (!Minecraft.getInstance().isSameThread()) return;
+		veltium$chunkApplyStart = ChunkStats.isEnabled() ? System.nanoTime() : 0;
+	}
+
+	@Inject(method = "handleLevelChunkWithLight", at = @At("RETURN"))
+	private void veltium$endChunk(ClientboundLevelChunkWithLightPacket packet, CallbackInfo info) {
+		// Only reached on the client thread; the Netty-thread call leaves by throwing after queueing
+		if (veltium$chunkApplyStart == 0) return;
+		ChunkStats.onApplied(System.nanoTime() - veltium$chunkApplyStart);
+		veltium$chunkApplyStart = 0;
+	}
+
+	@Inject(method = "handleChunkBatchFinished", at = @At("TAIL"))
+	private void veltium$onChunkBatchFinished(ClientboundChunkBatchFinishedPacket packet, CallbackInfo info) {
+		// The calculator has just folded this batch in and told the server the rate we can take
+		if (ChunkStats.isEnabled()) ChunkStats.onBatchFinished(chunkBatchSizeCalculator.getDesiredChunksPerTick());
+	}
+}
@@ -0,0 +1,32 @@
+package com.veltium.mixin.client;
+
+import com.veltium.stats.NetworkStats;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import net.minecraft.network.CompressionDecoder;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import java.util.List;
+
+@Mixin(CompressionDecoder.class)
+public class CompressionDecoderMixin {
+	@Unique
+	private long veltium$start;
+
+	@Inject(method = "decode", at = @At("HEAD"))
+	private void veltium$beginDecompress(ChannelHandlerContext context, ByteBuf input, List<Object> output, CallbackInfo info) {
+		if (NetworkStats.isEnabled()) veltium$start = System.nanoTime();
+	}
+
+	@Inject(method = "decode", at = @At("RETURN"))
+	private void veltium$endDecompress(ChannelHandlerContext context, ByteBuf input, List<Object> output, CallbackInfo info) {
+		if (NetworkStats.isEnabled() && veltium$start != 0) {
+			NetworkStats.onDecompress(System.nanoTime() - veltium$start);
+			veltium$start = 0;
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package com.veltium.mixin.client;
+
+import com.veltium.stats.NetworkStats;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import net.minecraft.network.CompressionEncoder;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(CompressionEncoder.class)
+public class CompressionEncoderMixin {
+	@Unique
+	private long veltium$start;
+
+	@Inject(method = "encode(Lio/netty/channel/ChannelHandlerContext;Lio/netty/buffer/ByteBuf;Lio/netty/buffer/ByteBuf;)V",
+			at = @At("HEAD"))
+	private void veltium$beginCompress(ChannelHandlerContext context, ByteBuf input, ByteBuf output, CallbackInfo info) {
+		if (NetworkStats.isEnabled()) veltium$start = System.nanoTime();
+	}
+
+	@Inject(method = "encode(Lio/netty/channel/ChannelHandlerContext;Lio/netty/buffer/ByteBuf;Lio/netty/buffer/ByteBuf;)V",
+			at = @At("RETURN"))
+	private void veltium$endCompress(ChannelHandlerContext context, ByteBuf input, ByteBuf output, CallbackInfo info) {
+		if (NetworkStats.isEnabled() && veltium$start != 0) {
+			NetworkStats.onCompress(System.nanoTime() - veltium$start);
+			veltium$start = 0;
+		}
+	}
+}
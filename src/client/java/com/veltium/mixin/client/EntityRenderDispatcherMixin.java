@@ -0,0 +1,39 @@
+package com.veltium.mixin.client;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.veltium.stats.RenderCostProfiler;
+import net.minecraft.client.renderer.SubmitNodeCollector;
+import net.minecraft.client.renderer.entity.EntityRenderDispatcher;
+import net.minecraft.client.renderer.entity.state.EntityRenderState;
+import net.minecraft.client.renderer.state.CameraRenderState;
+import net.minecraft.world.entity.Entity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(EntityRenderDispatcher.class)
+public class EntityRenderDispatcherMixin {
+	@Inject(method = "extractEntity", at = @At("HEAD"))
+	private void veltium$beginExtract(Entity entity, float partialTicks, CallbackInfoReturnable<EntityRenderState> info) {
+		RenderCostProfiler.begin();
+	}
+
+	@Inject(method = "extractEntity", at = @At("RETURN"))
+	private void veltium$endExtract(Entity entity, float partialTicks, CallbackInfoReturnable<EntityRenderState> info) {
+		RenderCostProfiler.endEntity(entity.getType(), true);
+	}
+
+	@Inject(method = "submit", at = @At("HEAD"))
+	private void veltium$beginSubmit(EntityRenderState state, CameraRenderState camera, double x, double y, double z,
+									 PoseStack poseStack, SubmitNodeCollector collector, CallbackInfo info) {
+		RenderCostProfiler.begin();
+	}
+
+	@Inject(method = "submit", at = @At("RETURN"))
+	private void veltium$endSubmit(EntityRenderState state, CameraRenderState camera, double x, double y, double z,
+								   PoseStack poseStack, SubmitNodeCollector collector, CallbackInfo info) {
+		RenderCostProfiler.endEntity(state.entityType, false);
+	}
+}
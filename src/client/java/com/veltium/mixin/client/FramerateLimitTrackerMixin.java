@@ -0,0 +1,19 @@
+package com.veltium.mixin.client;
+
+import com.veltium.PowerSaver;
+import com.veltium.Veltium;
+import net.minecraft.client.FramerateLimitTracker;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(FramerateLimitTracker.class)
+public class FramerateLimitTrackerMixin {
+	@Inject(at = @At("RETURN"), method = "getFramerateLimit", cancellable = true)
+	private void limitInBackground(CallbackInfoReturnable<Integer> info) {
+		// Vanilla's own inactivity limit still applies; this only lowers it further
+		int limit = PowerSaver.limitFramerate(info.getReturnValueI(), Veltium.config);
+		if (limit != info.getReturnValueI()) info.setReturnValue(limit);
+	}
+}
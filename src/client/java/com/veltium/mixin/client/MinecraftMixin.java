@@ -0,0 +1,33 @@
+package com.veltium.mixin.client;
+
+import com.llamalad7.mixinextras.injector.ModifyExpressionValue;
+import com.veltium.PowerSaver;
+import com.veltium.Veltium;
+import com.veltium.config.YACLConfig;
+import com.veltium.stats.FrameStats;
+import com.veltium.stats.RenderCostProfiler;
+import net.minecraft.client.Minecraft;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(Minecraft.class)
+public class MinecraftMixin {
+	@Inject(at = @At("HEAD"), method = "runTick")
+	private void onFrameStart(CallbackInfo info) {
+		// Timestamp every frame so FrameStats sees real frame times instead of the averaged counter
+		long now = System.nanoTime();
+		FrameStats.onFrameStart(now);
+		RenderCostProfiler.onFrame(now);
+		// One config snapshot per frame, so ticking, the HUD and the mixins agree on every value
+		Veltium.config = YACLConfig.current();
+		PowerSaver.update((Minecraft) (Object) this, Veltium.config);
+	}
+
+	@ModifyExpressionValue(at = @At(value = "FIELD", target = "Lnet/minecraft/client/Minecraft;noRender:Z"), method = "runTick")
+	private boolean skipRenderingWhenMinimized(boolean noRender) {
+		// Ticking, sound and networking carry on; only drawing a window nobody can see is skipped
+		return noRender || PowerSaver.skipRendering(Veltium.config);
+	}
+}
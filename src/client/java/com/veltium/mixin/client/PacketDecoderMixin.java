@@ -0,0 +1,44 @@
+package com.veltium.mixin.client;
+
+import com.veltium.stats.ChunkStats;
+import com.veltium.stats.NetworkStats;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import net.minecraft.network.PacketDecoder;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientboundLevelChunkWithLightPacket;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import java.util.List;
+
+@Mixin(PacketDecoder.class)
+public class PacketDecoderMixin {
+	// One decoder per connection, only used on its Netty thread
+	@Unique
+	private int veltium$frameBytes;
+	@Unique
+	private long veltium$decodeStart;
+
+	@Inject(method = "decode", at = @At("HEAD"))
+	private void veltium$beginDecode(ChannelHandlerContext context, ByteBuf input, List<Object> output, CallbackInfo info) {
+		veltium$frameBytes = input.readableBytes();
+		if (ChunkStats.isEnabled()) veltium$decodeStart = System.nanoTime();
+	}
+
+	@Inject(method = "decode", at = @At("RETURN"))
+	private void veltium$endDecode(ChannelHandlerContext context, ByteBuf input, List<Object> output, CallbackInfo info) {
+		// Netty hands decode an empty list per frame, so the decoded packet is the only element
+		if (NetworkStats.isEnabled() && !output.isEmpty() && output.getFirst() instanceof Packet<?> packet) {
+			NetworkStats.onInbound(packet.type(), veltium$frameBytes);
+		}
+		if (ChunkStats.isEnabled() && veltium$decodeStart != 0 && !output.isEmpty()
+				&& output.getFirst() instanceof ClientboundLevelChunkWithLightPacket) {
+			ChunkStats.onDecoded(System.nanoTime() - veltium$decodeStart);
+		}
+		veltium$decodeStart = 0;
+	}
+}
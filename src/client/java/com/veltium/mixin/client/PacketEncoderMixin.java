@@ -0,0 +1,21 @@
+package com.veltium.mixin.client;
+
+import com.veltium.stats.NetworkStats;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import net.minecraft.network.PacketEncoder;
+import net.minecraft.network.protocol.Packet;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(PacketEncoder.class)
+public class PacketEncoderMixin {
+	// Explicit descriptor: MessageToByteEncoder also leaves a synthetic encode(…, Object, …) bridge
+	@Inject(method = "encode(Lio/netty/channel/ChannelHandlerContext;Lnet/minecraft/network/protocol/Packet;Lio/netty/buffer/ByteBuf;)V",
+			at = @At("RETURN"))
+	private void veltium$endEncode(ChannelHandlerContext context, Packet<?> packet, ByteBuf output, CallbackInfo info) {
+		if (NetworkStats.isEnabled()) NetworkStats.onOutbound(packet.type(), output.readableBytes());
+	}
+}
@@ -0,0 +1,41 @@
+package com.veltium.mixin.client.sodium;
+
+import com.veltium.stats.SodiumChunkStats;
+import net.caffeinemc.mods.sodium.client.render.chunk.RenderSectionManager;
+import net.caffeinemc.mods.sodium.client.render.chunk.compile.executor.ChunkBuilder;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import java.util.ArrayList;
+
+@Mixin(value = RenderSectionManager.class, remap = false)
+public abstract class RenderSectionManagerMixin {
+	@Shadow
+	@Final
+	private ChunkBuilder builder;
+
+	@Shadow
+	public abstract int getVisibleChunkCount();
+
+	@Inject(method = "uploadChunks", at = @At("HEAD"))
+	private void veltium$onUploadStart(CallbackInfo info) {
+		SodiumChunkStats.onUploadStart(System.nanoTime());
+	}
+
+	@Inject(method = "uploadChunks", at = @At("RETURN"))
+	private void veltium$onUploadEnd(CallbackInfo info) {
+		// uploadChunks runs once per frame, so this is also where the per-frame gauges are read
+		SodiumChunkStats.onUploadEnd(System.nanoTime(),
+				builder.getScheduledJobCount(), builder.getBusyThreadCount(), builder.getTotalThreadCount(),
+				getVisibleChunkCount());
+	}
+
+	@Inject(method = "processChunkBuildResults", at = @At("HEAD"))
+	private void veltium$onBuildResults(ArrayList<?> results, CallbackInfo info) {
+		SodiumChunkStats.onBuildsCompleted(results.size());
+	}
+}
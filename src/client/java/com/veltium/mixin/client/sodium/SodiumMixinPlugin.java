@@ -0,0 +1,50 @@
+package com.veltium.mixin.client.sodium;
+
+import net.fabricmc.loader.api.FabricLoader;
+import org.objectweb.asm.tree.ClassNode;
+import org.spongepowered.asm.mixin.extensibility.IMixinConfigPlugin;
+import org.spongepowered.asm.mixin.extensibility.IMixinInfo;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Applies the Sodium metric mixins only when Sodium is installed. The config is also marked
+ * non-required, so a Sodium update that renames a target disables the metrics instead of
+ * crashing the game.
+ */
+public class SodiumMixinPlugin implements IMixinConfigPlugin {
+	private boolean sodiumLoaded;
+
+	@Override
+	public void onLoad(String mixinPackage) {
+		sodiumLoaded = FabricLoader.getInstance().isModLoaded("sodium");
+	}
+
+	@Override
+	public String getRefMapperConfig() {
+		return null;
+	}
+
+	@Override
+	public boolean shouldApplyMixin(String targetClassName, String mixinClassName) {
+		return sodiumLoaded;
+	}
+
+	@Override
+	public void acceptTargets(Set<String> myTargets, Set<String> otherTargets) {
+	}
+
+	@Override
+	public List<String> getMixins() {
+		return null;
+	}
+
+	@Override
+	public void preApply(String targetClassName, ClassNode targetClass, String mixinClassName, IMixinInfo mixinInfo) {
+	}
+
+	@Override
+	public void postApply(String targetClassName, ClassNode targetClass, String mixinClassName, IMixinInfo mixinInfo) {
+	}
+}
@@ -0,0 +1,155 @@
+package com.veltium.stats;
+
+import com.veltium.mixin.client.ClientLevelAccessor;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.client.renderer.chunk.SectionRenderDispatcher;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The client side of chunk streaming, split into the stages that can fall behind when flying
+ * fast: how many chunks the server sends against how many the client asked for, how long
+ * each one takes to decode on the Netty thread and to apply on the client thread, and the
+ * backlog of loaded chunks, queued light updates and sections waiting to be meshed.
+ *
+ * <p>Event counters are {@link LongAdder}s written from the Netty and client threads; gauges
+ * are plain volatile fields written once per client tick. The sampler turns both into an
+ * immutable {@link Snapshot} about once a second.
+ */
+public final class ChunkStats {
+    private static volatile boolean enabled;
+    private static final LongAdder chunks = new LongAdder();
+    private static final LongAdder decodeNanos = new LongAdder();
+    private static final LongAdder applyNanos = new LongAdder();
+
+    // Client thread writes, sampler reads
+    private static volatile float desiredChunksPerTick = -1;
+    private static volatile int loadedChunks;
+    private static volatile int targetChunks;
+    private static volatile int lightQueue;
+    private static volatile int meshQueue = -1;
+
+    // Client thread only
+    private static int targetDistance = -1;
+
+    // Sampler thread only
+    private static long lastUpdate;
+    private static long lastChunks;
+    private static long lastDecodeNanos;
+    private static long lastApplyNanos;
+
+    private static volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * {@code requestedPerSecond} is the rate the client's batch size calculator last asked the
+     * server for, {@code -1} before the first batch; {@code meshQueue} is {@code -1} when the
+     * vanilla section compiler is not in use, e.g. under Sodium.
+     */
+    public record Snapshot(double receivedPerSecond, double requestedPerSecond,
+                           double decodeMillisPerChunk, double applyMillisPerChunk,
+                           int loadedChunks, int targetChunks, int lightQueue, int meshQueue) {
+        public static final Snapshot EMPTY = new Snapshot(0, -1, 0, 0, 0, 0, 0, -1);
+
+        public boolean isEmpty() {
+            return this == EMPTY;
+        }
+    }
+
+    private ChunkStats() {}
+
+    public static Snapshot snapshot() {
+        return snapshot;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static synchronized void setEnabled(boolean value) {
+        if (enabled == value) return;
+        enabled = value;
+        chunks.reset();
+        decodeNanos.reset();
+        applyNanos.reset();
+        desiredChunksPerTick = -1;
+        meshQueue = -1;
+        lastUpdate = 0;
+        lastChunks = 0;
+        lastDecodeNanos = 0;
+        lastApplyNanos = 0;
+        snapshot = Snapshot.EMPTY;
+    }
+
+    public static void onDecoded(long nanos) {
+        decodeNanos.add(nanos);
+    }
+
+    public static void onApplied(long nanos) {
+        chunks.increment();
+        applyNanos.add(nanos);
+    }
+
+    public static void onBatchFinished(float desiredPerTick) {
+        desiredChunksPerTick = desiredPerTick;
+    }
+
+    /** Reads the per-tick gauges; called at the end of every client tick while enabled. */
+    public static void onClientTick(Minecraft client) {
+        ClientLevel level = client.level;
+        if (level == null) return;
+
+        int distance = client.options.getEffectiveRenderDistance();
+        if (distance != targetDistance) {
+            targetDistance = distance;
+            targetChunks = targetChunkCount(distance);
+        }
+        loadedChunks = level.getChunkSource().getLoadedChunksCount();
+        lightQueue = ((ClientLevelAccessor) level).veltium$getLightUpdateQueue().size();
+        SectionRenderDispatcher dispatcher = client.levelRenderer.getSectionRenderDispatcher();
+        meshQueue = dispatcher != null ? dispatcher.getCompileQueueSize() : -1;
+    }
+
+    /**
+     * Chunks the server sends for a view distance: vanilla tracks a cylinder that keeps a
+     * chunk while its nearest corner is inside the radius, not the full square.
+     */
+    private static int targetChunkCount(int viewDistance) {
+        int count = 0;
+        for (int x = -viewDistance; x <= viewDistance; x++) {
+            int dx = Math.max(0, Math.abs(x) - 1);
+            for (int z = -viewDistance; z <= viewDistance; z++) {
+                int dz = Math.max(0, Math.abs(z) - 1);
+                if (dx * dx + dz * dz < viewDistance * viewDistance) count++;
+            }
+        }
+        return count;
+    }
+
+    /** Turns the totals since the previous call into rates; meant to be called about once a second. */
+    public static synchronized void update(long nowMillis) {
+        if (!enabled) return;
+
+        double seconds = (nowMillis - lastUpdate) / 1000.0;
+        boolean first = lastUpdate == 0;
+        lastUpdate = nowMillis;
+
+        long chunkTotal = chunks.sum();
+        long decodeTotal = decodeNanos.sum();
+        long applyTotal = applyNanos.sum();
+        long chunkDelta = chunkTotal - lastChunks;
+        long decodeDelta = decodeTotal - lastDecodeNanos;
+        long applyDelta = applyTotal - lastApplyNanos;
+        lastChunks = chunkTotal;
+        lastDecodeNanos = decodeTotal;
+        lastApplyNanos = applyTotal;
+        if (first || seconds <= 0) return;
+
+        float desired = desiredChunksPerTick;
+        snapshot = new Snapshot(
+                chunkDelta / seconds, desired >= 0 ? desired * 20.0 : -1,
+                chunkDelta > 0 ? decodeDelta / 1_000_000.0 / chunkDelta : 0,
+                chunkDelta > 0 ? applyDelta / 1_000_000.0 / chunkDelta : 0,
+                loadedChunks, targetChunks, lightQueue, meshQueue);
+    }
+}
@@ -0,0 +1,82 @@
+package com.veltium.stats;
+
+/**
+ * Double counterpart of {@link IntHistory}. The running sum is rebuilt once per
+ * full pass over the ring so floating-point drift cannot accumulate.
+ */
+public final class DoubleHistory {
+    private final double[] values;
+    private final int[] minQueue;
+    private final int[] maxQueue;
+    private int minHead, minCount;
+    private int maxHead, maxCount;
+    private int next;
+    private int size;
+    private double sum;
+
+    public DoubleHistory(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        this.values = new double[capacity];
+        this.minQueue = new int[capacity];
+        this.maxQueue = new int[capacity];
+    }
+
+    public void add(double value) {
+        if (size == values.length) {
+            sum -= values[next];
+            if (minCount > 0 && minQueue[minHead] == next) {
+                minHead = wrap(minHead + 1);
+                minCount--;
+            }
+            if (maxCount > 0 && maxQueue[maxHead] == next) {
+                maxHead = wrap(maxHead + 1);
+                maxCount--;
+            }
+        } else {
+            size++;
+        }
+
+        values[next] = value;
+        sum += value;
+
+        while (minCount > 0 && values[minQueue[wrap(minHead + minCount - 1)]] >= value) minCount--;
+        minQueue[wrap(minHead + minCount)] = next;
+        minCount++;
+
+        while (maxCount > 0 && values[maxQueue[wrap(maxHead + maxCount - 1)]] <= value) maxCount--;
+        maxQueue[wrap(maxHead + maxCount)] = next;
+        maxCount++;
+
+        next = wrap(next + 1);
+        if (next == 0) resyncSum();
+    }
+
+    public void clear() {
+        next = size = 0;
+        minHead = minCount = 0;
+        maxHead = maxCount = 0;
+        sum = 0;
+    }
+
+    public boolean isEmpty() { return size == 0; }
+    public int size() { return size; }
+    public int capacity() { return values.length; }
+
+    public double min() { return size == 0 ? 0 : values[minQueue[minHead]]; }
+    public double max() { return size == 0 ? 0 : values[maxQueue[maxHead]]; }
+    public double average() { return size == 0 ? 0 : sum / size; }
+
+    public double latest() {
+        return size == 0 ? 0 : values[next == 0 ? values.length - 1 : next - 1];
+    }
+
+    private void resyncSum() {
+        double exact = 0;
+        for (int i = 0; i < size; i++) exact += values[i];
+        sum = exact;
+    }
+
+    private int wrap(int index) {
+        return index >= values.length ? index - values.length : index;
+    }
+}
@@ -0,0 +1,59 @@
+package com.veltium.stats;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-frame timing fed from {@code MinecraftMixin}. The histogram is only touched on the
+ * render thread.
+ */
+public final class FrameStats {
+    private static final int WINDOW = 4096;
+    /** Frames slower than this count as render stalls, about three missed frames at 60 Hz. */
+    public static final long STALL_NANOS = 50_000_000L;
+    private static final FrameTimeHistogram HISTOGRAM = new FrameTimeHistogram(WINDOW);
+    private static long lastFrameStart = 0;
+    private static volatile long latestFrameNanos = 0;
+    private static final AtomicLong worstFrameNanos = new AtomicLong();
+    private static final AtomicLong stalls = new AtomicLong();
+    private static final AtomicLong worstStallNanos = new AtomicLong();
+
+    private FrameStats() {}
+
+    public static void onFrameStart(long now) {
+        if (lastFrameStart != 0) {
+            long duration = now - lastFrameStart;
+            HISTOGRAM.record(duration);
+            latestFrameNanos = duration;
+            if (duration > worstFrameNanos.get()) worstFrameNanos.accumulateAndGet(duration, Math::max);
+            if (duration > STALL_NANOS) {
+                stalls.incrementAndGet();
+                worstStallNanos.accumulateAndGet(duration, Math::max);
+            }
+        }
+        lastFrameStart = now;
+    }
+
+    /** Duration of the last completed frame; safe to read from any thread. */
+    public static long latestFrameNanos() {
+        return latestFrameNanos;
+    }
+
+    /** Slowest frame since the previous call, then resets; used by the session recorder. */
+    public static long drainWorstFrameNanos() {
+        return worstFrameNanos.getAndSet(0);
+    }
+
+    /** Frames over {@link #STALL_NANOS} since the previous call, then resets; used by the JFR monitor. */
+    public static int drainStalls() {
+        return (int) stalls.getAndSet(0);
+    }
+
+    /** Slowest stalled frame since the previous call, then resets. */
+    public static long drainWorstStallNanos() {
+        return worstStallNanos.getAndSet(0);
+    }
+
+    public static FrameTimeHistogram histogram() {
+        return HISTOGRAM;
+    }
+}
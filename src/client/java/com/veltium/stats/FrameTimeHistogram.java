@@ -0,0 +1,99 @@
+package com.veltium.stats;
+
+/**
+ * Log-bucketed histogram over a sliding window of the most recent frame times.
+ * Each power of two is split into 8 linear sub-buckets (~6% resolution) between
+ * 16 µs and ~33 s, so memory is fixed no matter how long the session runs.
+ */
+public final class FrameTimeHistogram {
+    private static final int SUB_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int MIN_EXP = 4;
+    private static final int MAX_EXP = 24;
+    private static final int BUCKETS = (MAX_EXP - MIN_EXP + 1) * SUB_BUCKETS;
+    private static final int MIN_MICROS = 1 << MIN_EXP;
+    private static final int MAX_MICROS = (1 << (MAX_EXP + 1)) - 1;
+
+    private final int[] counts = new int[BUCKETS];
+    private final int[] window;
+    private int next;
+    private int size;
+    private long sumMicros;
+
+    public FrameTimeHistogram(int windowSize) {
+        if (windowSize <= 0) throw new IllegalArgumentException("windowSize must be positive: " + windowSize);
+        this.window = new int[windowSize];
+    }
+
+    public void record(long frameNanos) {
+        int micros = (int) Math.max(MIN_MICROS, Math.min(MAX_MICROS, frameNanos / 1000L));
+
+        if (size == window.length) {
+            int evicted = window[next];
+            counts[bucketOf(evicted)]--;
+            sumMicros -= evicted;
+        } else {
+            size++;
+        }
+
+        window[next] = micros;
+        counts[bucketOf(micros)]++;
+        sumMicros += micros;
+        next = next + 1 == window.length ? 0 : next + 1;
+    }
+
+    public void clear() {
+        java.util.Arrays.fill(counts, 0);
+        next = size = 0;
+        sumMicros = 0;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+
+    public double averageMillis() {
+        return size == 0 ? 0 : sumMicros / 1000.0 / size;
+    }
+
+    public double latestMillis() {
+        return size == 0 ? 0 : window[next == 0 ? window.length - 1 : next - 1] / 1000.0;
+    }
+
+    /**
+     * Frame time in milliseconds below which the given fraction of frames fall,
+     * e.g. {@code percentileMillis(0.99)} for p99.
+     */
+    public double percentileMillis(double fraction) {
+        if (size == 0) return 0;
+        long target = Math.max(1, (long) Math.ceil(fraction * size));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts[bucket];
+            if (seen >= target) return bucketMidpoint(bucket) / 1000.0;
+        }
+        return bucketMidpoint(BUCKETS - 1) / 1000.0;
+    }
+
+    /**
+     * FPS equivalent of the slowest {@code fraction} of frames ("1% low" is
+     * {@code lowFps(0.01)}).
+     */
+    public int lowFps(double fraction) {
+        double millis = percentileMillis(1.0 - fraction);
+        return millis <= 0 ? 0 : (int) Math.round(1000.0 / millis);
+    }
+
+    private static int bucketOf(int micros) {
+        int exp = 31 - Integer.numberOfLeadingZeros(micros);
+        int sub = (micros >>> (exp - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exp - MIN_EXP) * SUB_BUCKETS + sub;
+    }
+
+    private static double bucketMidpoint(int bucket) {
+        int exp = bucket / SUB_BUCKETS + MIN_EXP;
+        int sub = bucket % SUB_BUCKETS;
+        long lower = (long) (SUB_BUCKETS + sub) << (exp - SUB_BITS);
+        long upper = (long) (SUB_BUCKETS + sub + 1) << (exp - SUB_BITS);
+        return (lower + upper) / 2.0;
+    }
+}
@@ -0,0 +1,180 @@
+package com.veltium.stats;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+
+/**
+ * Collects GC pauses from {@link GarbageCollectorMXBean} notifications and the process
+ * allocation rate from {@code com.sun.management.ThreadMXBean}. Notifications arrive on
+ * a JMX thread and are stored in a small ring; {@link #update(long)} folds them into an
+ * immutable {@link Snapshot} for the HUD. The listeners and allocation counting are only in
+ * place between {@link #start()} and {@link #stop()}.
+ */
+public final class GcMonitor {
+    private static final long WINDOW_NANOS = 60_000_000_000L;
+    private static final int MAX_EVENTS = 256;
+
+    private final long[] eventTimes = new long[MAX_EVENTS];
+    private final double[] eventPauses = new double[MAX_EVENTS];
+    private final boolean[] eventIsCollection = new boolean[MAX_EVENTS];
+    private int eventNext;
+    private int eventCount;
+
+    private volatile double lastPauseMillis;
+    private volatile double oldGenPercent = -1;
+
+    private final com.sun.management.ThreadMXBean threadBean;
+    private final NotificationListener listener = this::handleNotification;
+    private boolean enabledAllocation;
+    private long lastAllocatedBytes = -1;
+    private long lastAllocationSample;
+    private double allocationMbPerSecond;
+
+    private volatile boolean running;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public record Snapshot(double allocationMbPerSecond, int collectionsPerMinute,
+                           double lastPauseMillis, double worstPauseMillis, double oldGenPercent) {
+        public static final Snapshot EMPTY = new Snapshot(0, 0, 0, 0, -1);
+    }
+
+    public GcMonitor() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        this.threadBean = bean instanceof com.sun.management.ThreadMXBean sunBean
+                && sunBean.isThreadAllocatedMemorySupported() ? sunBean : null;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+
+        // Leave allocation counting alone if someone else already turned it on
+        if (threadBean != null && !threadBean.isThreadAllocatedMemoryEnabled()) {
+            threadBean.setThreadAllocatedMemoryEnabled(true);
+            enabledAllocation = true;
+        }
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (bean instanceof NotificationEmitter emitter) {
+                emitter.addNotificationListener(listener,
+                        n -> GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(n.getType()),
+                        null);
+            }
+        }
+    }
+
+    public synchronized void stop() {
+        if (!running) return;
+        running = false;
+
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (bean instanceof NotificationEmitter emitter) {
+                try {
+                    emitter.removeNotificationListener(listener);
+                } catch (ListenerNotFoundException ignored) {
+                    // Bean appeared after start(); nothing was added to it
+                }
+            }
+        }
+        if (enabledAllocation) {
+            threadBean.setThreadAllocatedMemoryEnabled(false);
+            enabledAllocation = false;
+        }
+
+        eventNext = 0;
+        eventCount = 0;
+        lastPauseMillis = 0;
+        oldGenPercent = -1;
+        lastAllocatedBytes = -1;
+        allocationMbPerSecond = 0;
+        snapshot = Snapshot.EMPTY;
+    }
+
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /** Recomputes the snapshot; meant to be called about once a second. */
+    public void update(long now) {
+        if (!running) return;
+        if (threadBean != null) {
+            long allocated = threadBean.getTotalThreadAllocatedBytes();
+            if (lastAllocatedBytes >= 0 && now > lastAllocationSample && allocated >= lastAllocatedBytes) {
+                double seconds = (now - lastAllocationSample) / 1_000_000_000.0;
+                allocationMbPerSecond = (allocated - lastAllocatedBytes) / 1048576.0 / seconds;
+            }
+            lastAllocatedBytes = allocated;
+            lastAllocationSample = now;
+        }
+
+        int collections = 0;
+        double worstPause = 0;
+        synchronized (this) {
+            for (int i = 0; i < eventCount; i++) {
+                int index = Math.floorMod(eventNext - 1 - i, MAX_EVENTS);
+                if (now - eventTimes[index] > WINDOW_NANOS) break;
+                if (eventIsCollection[index]) collections++;
+                worstPause = Math.max(worstPause, eventPauses[index]);
+            }
+        }
+
+        snapshot = new Snapshot(allocationMbPerSecond, collections, lastPauseMillis, worstPause, oldGenPercent);
+    }
+
+    private void handleNotification(Notification notification, Object handback) {
+        // A notification already being delivered when stop() removed the listener
+        if (!running) return;
+        GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        GcInfo gcInfo = info.getGcInfo();
+        String name = info.getGcName();
+
+        // ZGC/Shenandoah publish separate "Cycles" (concurrent work) and "Pauses" beans. G1's
+        // "G1 Concurrent GC" bean (JDK 20+) reports the Remark and Cleanup stop-the-world pauses
+        // of its concurrent cycle ("end of concurrent GC pause"); those are pauses, but the
+        // collection itself is already counted by the young/old generation beans.
+        boolean concurrent = name.contains("Cycles");
+        boolean g1ConcurrentPause = name.equals("G1 Concurrent GC")
+                || info.getGcAction().equals("end of concurrent GC pause");
+        boolean collection = concurrent || (!name.contains("Pauses") && !g1ConcurrentPause);
+        double pause = concurrent ? 0 : gcInfo.getDuration();
+
+        synchronized (this) {
+            eventTimes[eventNext] = System.nanoTime();
+            eventPauses[eventNext] = pause;
+            eventIsCollection[eventNext] = collection;
+            eventNext = (eventNext + 1) % MAX_EVENTS;
+            if (eventCount < MAX_EVENTS) eventCount++;
+        }
+        if (!concurrent) lastPauseMillis = pause;
+
+        double oldGen = oldGenPercent(gcInfo.getMemoryUsageAfterGc());
+        if (oldGen >= 0) oldGenPercent = oldGen;
+    }
+
+    private static double oldGenPercent(Map<String, MemoryUsage> usageAfterGc) {
+        for (Map.Entry<String, MemoryUsage> entry : usageAfterGc.entrySet()) {
+            String pool = entry.getKey();
+            if (!pool.contains("Old") && !pool.contains("Tenured")) continue;
+
+            MemoryUsage usage = entry.getValue();
+            long max = usage.getMax() > 0 ? usage.getMax() : usage.getCommitted();
+            if (max <= 0) continue;
+            return usage.getUsed() * 100.0 / max;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,77 @@
+package com.veltium.stats;
+
+/**
+ * Fixed-size window of int samples backed by a ring buffer.
+ * Min, max and average are maintained incrementally (running sum plus monotonic
+ * index queues), so every query is O(1) and {@link #add(int)} never allocates.
+ */
+public final class IntHistory {
+    private final int[] values;
+    private final int[] minQueue;
+    private final int[] maxQueue;
+    private int minHead, minCount;
+    private int maxHead, maxCount;
+    private int next;
+    private int size;
+    private long sum;
+
+    public IntHistory(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        this.values = new int[capacity];
+        this.minQueue = new int[capacity];
+        this.maxQueue = new int[capacity];
+    }
+
+    public void add(int value) {
+        if (size == values.length) {
+            // The oldest sample sits at next once the ring is full
+            sum -= values[next];
+            if (minCount > 0 && minQueue[minHead] == next) {
+                minHead = wrap(minHead + 1);
+                minCount--;
+            }
+            if (maxCount > 0 && maxQueue[maxHead] == next) {
+                maxHead = wrap(maxHead + 1);
+                maxCount--;
+            }
+        } else {
+            size++;
+        }
+
+        values[next] = value;
+        sum += value;
+
+        while (minCount > 0 && values[minQueue[wrap(minHead + minCount - 1)]] >= value) minCount--;
+        minQueue[wrap(minHead + minCount)] = next;
+        minCount++;
+
+        while (maxCount > 0 && values[maxQueue[wrap(maxHead + maxCount - 1)]] <= value) maxCount--;
+        maxQueue[wrap(maxHead + maxCount)] = next;
+        maxCount++;
+
+        next = wrap(next + 1);
+    }
+
+    public void clear() {
+        next = size = 0;
+        minHead = minCount = 0;
+        maxHead = maxCount = 0;
+        sum = 0;
+    }
+
+    public boolean isEmpty() { return size == 0; }
+    public int size() { return size; }
+    public int capacity() { return values.length; }
+
+    public int min() { return size == 0 ? 0 : values[minQueue[minHead]]; }
+    public int max() { return size == 0 ? 0 : values[maxQueue[maxHead]]; }
+    public double average() { return size == 0 ? 0 : (double) sum / size; }
+
+    public int latest() {
+        return size == 0 ? 0 : values[next == 0 ? values.length - 1 : next - 1];
+    }
+
+    private int wrap(int index) {
+        return index >= values.length ? index - values.length : index;
+    }
+}
@@ -0,0 +1,180 @@
+package com.veltium.stats;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+
+/**
+ * Streams a small set of JFR events in-process and folds them into per-second buckets
+ * covering the last minute. Events are delivered on the stream's own thread;
+ * {@link #update(long)} publishes an immutable {@link Snapshot} for the HUD.
+ *
+ * <p>Thresholds keep the event rate low: only file and socket I/O slower than
+ * {@link #STALL_THRESHOLD} is recorded. Render thread stalls come from the frame times
+ * {@link FrameStats} already collects rather than from {@code jdk.ThreadPark}, which has no
+ * per-thread filter and would record every idle Netty, worker and server thread.
+ */
+public final class JfrMonitor {
+    private static final Duration STALL_THRESHOLD = Duration.ofMillis(10);
+    private static final Duration SAFEPOINT_THRESHOLD = Duration.ofMillis(1);
+    private static final Duration CPU_PERIOD = Duration.ofSeconds(1);
+
+    private static final int GC = 0;
+    private static final int SAFEPOINT = 1;
+    private static final int STALL = 2;
+    private static final int IO = 3;
+    private static final int CATEGORIES = 4;
+    private static final int WINDOW_SECONDS = 60;
+
+    private final int[][] counts = new int[CATEGORIES][WINDOW_SECONDS];
+    private final double[][] worst = new double[CATEGORIES][WINDOW_SECONDS];
+    private final long[] bucketSecond = new long[WINDOW_SECONDS];
+
+    private volatile double jvmCpuPercent = -1;
+    private volatile double machineCpuPercent = -1;
+    private volatile String worstIoTarget = "";
+    private double worstIoMillis;
+    private long worstIoSecond;
+
+    private RecordingStream stream;
+    private boolean unavailable;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public record Snapshot(int gcPauses, double gcWorstMillis,
+                           int safepoints, double safepointWorstMillis,
+                           int renderStalls, double renderStallWorstMillis,
+                           int ioStalls, double ioWorstMillis, String ioWorstTarget,
+                           double jvmCpuPercent, double machineCpuPercent) {
+        public static final Snapshot EMPTY = new Snapshot(0, 0, 0, 0, 0, 0, 0, 0, "", -1, -1);
+    }
+
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /** Starts the stream once; does nothing if JFR is disabled or missing in this runtime. */
+    public synchronized void start() {
+        if (stream != null || unavailable) return;
+
+        try {
+            RecordingStream rs = new RecordingStream();
+            rs.setMaxAge(Duration.ofSeconds(10));
+            rs.setReuse(true);
+            rs.setOrdered(false);
+
+            rs.enable("jdk.GarbageCollection");
+            rs.enable("jdk.SafepointBegin").withThreshold(SAFEPOINT_THRESHOLD);
+            rs.enable("jdk.FileRead").withThreshold(STALL_THRESHOLD).withoutStackTrace();
+            rs.enable("jdk.FileWrite").withThreshold(STALL_THRESHOLD).withoutStackTrace();
+            rs.enable("jdk.SocketRead").withThreshold(STALL_THRESHOLD).withoutStackTrace();
+            rs.enable("jdk.SocketWrite").withThreshold(STALL_THRESHOLD).withoutStackTrace();
+            rs.enable("jdk.CPULoad").withPeriod(CPU_PERIOD);
+
+            rs.onEvent("jdk.GarbageCollection", e -> record(GC, millis(e.getDuration("longestPause"))));
+            rs.onEvent("jdk.SafepointBegin", e -> record(SAFEPOINT, millis(e.getDuration())));
+            rs.onEvent("jdk.FileRead", e -> onIo(e, e.getString("path")));
+            rs.onEvent("jdk.FileWrite", e -> onIo(e, e.getString("path")));
+            rs.onEvent("jdk.SocketRead", e -> onIo(e, e.getString("host")));
+            rs.onEvent("jdk.SocketWrite", e -> onIo(e, e.getString("host")));
+            rs.onEvent("jdk.CPULoad", e -> {
+                jvmCpuPercent = (e.getFloat("jvmUser") + e.getFloat("jvmSystem")) * 100.0;
+                machineCpuPercent = e.getFloat("machineTotal") * 100.0;
+            });
+
+            rs.startAsync();
+            stream = rs;
+            // Start the stall window clean rather than with everything since the game launched
+            FrameStats.drainStalls();
+            FrameStats.drainWorstStallNanos();
+        } catch (Throwable t) {
+            // -XX:-FlightRecorder, a runtime without jdk.jfr, or a denied permission
+            unavailable = true;
+            System.err.println("Veltium: JFR streaming unavailable: " + t);
+        }
+    }
+
+    public synchronized void stop() {
+        if (stream == null) return;
+        stream.close();
+        stream = null;
+        snapshot = Snapshot.EMPTY;
+        jvmCpuPercent = -1;
+        machineCpuPercent = -1;
+    }
+
+    /** Recomputes the snapshot from the last minute of buckets; meant to be called about once a second. */
+    public void update(long nowMillis) {
+        int stalls = FrameStats.drainStalls();
+        double worstStall = FrameStats.drainWorstStallNanos() / 1_000_000.0;
+        if (stalls > 0) record(STALL, stalls, worstStall);
+
+        long second = nowMillis / 1000;
+        int[] totalCounts = new int[CATEGORIES];
+        double[] totalWorst = new double[CATEGORIES];
+        String ioTarget;
+
+        synchronized (this) {
+            for (int i = 0; i < WINDOW_SECONDS; i++) {
+                if (second - bucketSecond[i] >= WINDOW_SECONDS) continue;
+                for (int c = 0; c < CATEGORIES; c++) {
+                    totalCounts[c] += counts[c][i];
+                    totalWorst[c] = Math.max(totalWorst[c], worst[c][i]);
+                }
+            }
+            ioTarget = second - worstIoSecond < WINDOW_SECONDS ? worstIoTarget : "";
+        }
+
+        snapshot = new Snapshot(
+                totalCounts[GC], totalWorst[GC],
+                totalCounts[SAFEPOINT], totalWorst[SAFEPOINT],
+                totalCounts[STALL], totalWorst[STALL],
+                totalCounts[IO], totalWorst[IO], ioTarget,
+                jvmCpuPercent, machineCpuPercent);
+    }
+
+    private void onIo(RecordedEvent event, String target) {
+        double millis = millis(event.getDuration());
+        long second = System.currentTimeMillis() / 1000;
+        synchronized (this) {
+            if (second - worstIoSecond >= WINDOW_SECONDS || millis >= worstIoMillis) {
+                worstIoMillis = millis;
+                worstIoSecond = second;
+                worstIoTarget = shortTarget(target);
+            }
+        }
+        record(IO, millis);
+    }
+
+    private void record(int category, double millis) {
+        record(category, 1, millis);
+    }
+
+    private synchronized void record(int category, int count, double millis) {
+        long second = System.currentTimeMillis() / 1000;
+        int index = (int) (second % WINDOW_SECONDS);
+        if (bucketSecond[index] != second) {
+            bucketSecond[index] = second;
+            for (int c = 0; c < CATEGORIES; c++) {
+                counts[c][index] = 0;
+                worst[c][index] = 0;
+            }
+        }
+        counts[category][index] += count;
+        worst[category][index] = Math.max(worst[category][index], millis);
+    }
+
+    private static String shortTarget(String target) {
+        if (target == null) return "";
+        int slash = Math.max(target.lastIndexOf('/'), target.lastIndexOf('\\'));
+        return slash >= 0 ? target.substring(slash + 1) : target;
+    }
+
+    private static double millis(Duration duration) {
+        return duration == null ? 0 : duration.toNanos() / 1_000_000.0;
+    }
+}
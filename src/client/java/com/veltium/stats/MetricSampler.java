@@ -0,0 +1,348 @@
+package com.veltium.stats;
+
+import com.veltium.PowerSaver;
+import com.veltium.config.YACLConfig;
+import com.veltium.session.SessionFormat;
+import com.veltium.session.SessionSample;
+import com.veltium.session.SessionWriter;
+import com.veltium.telemetry.TelemetryRing;
+import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientPacketListener;
+import net.minecraft.client.multiplayer.PlayerInfo;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples HUD metrics on a dedicated daemon thread every {@code hudUpdateInterval} ms, so the
+ * histories stay evenly spaced and keep filling while the HUD is hidden, the debug screen is
+ * open or frames stall. Each run publishes a fresh {@link MetricSnapshot} through a volatile
+ * field; the renderer only reads that reference.
+ *
+ * <p>Each run reads one {@link YACLConfig#current()} snapshot, so toggles never apply halfway
+ * through a sample.
+ *
+ * <p>Ping and world time live in client-thread-only structures, so {@link #onClientTick}
+ * copies them into volatile fields once per tick and the sampler picks them up from there.
+ * Frame times stay on the render thread in {@link FrameStats}.
+ */
+public final class MetricSampler {
+    private static final int MAX_HISTORY = 100;
+    private static final long MIN_PERIOD_MILLIS = 10;
+    private static final long MONITOR_INTERVAL_MILLIS = 1000;
+    // Walking every thread is cheap but not free, and per-thread CPU needs a longer window to settle
+    private static final long THREAD_INTERVAL_MILLIS = 2000;
+    private static final long SESSION_FLUSH_MILLIS = 5000;
+    // Sampling period while the window is unfocused; nothing is sampled while it is minimized
+    private static final long BACKGROUND_PERIOD_MILLIS = 1000;
+    private static final long STOP_TIMEOUT_MILLIS = 2000;
+    private static final long TELEMETRY_RETRY_MILLIS = 30_000;
+    private static final DateTimeFormatter SESSION_NAME = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
+
+    // Owned by the sampler thread
+    private final IntHistory fpsHistory = new IntHistory(MAX_HISTORY);
+    private final DoubleHistory memoryHistory = new DoubleHistory(MAX_HISTORY);
+    private final IntHistory pingHistory = new IntHistory(MAX_HISTORY);
+    private final GcMonitor gcMonitor = new GcMonitor();
+    private final JfrMonitor jfrMonitor = new JfrMonitor();
+    private final ThreadMonitor threadMonitor = new ThreadMonitor();
+    private long lastGcUpdate = 0;
+    private long lastJfrUpdate = 0;
+    private long lastNetworkUpdate = 0;
+    private long lastChunkUpdate = 0;
+    private long lastThreadUpdate = 0;
+    private long sequence = 0;
+    // Telemetry and session files are opened, written and closed only on the sampler thread
+    private TelemetryRing telemetry;
+    private boolean telemetryFailed = false;
+    private long telemetryRetryAt = 0;
+    private SessionWriter session;
+    private boolean sessionFailed = false;
+    private long lastSessionFlush = 0;
+    private long lastSampleMillis = 0;
+
+    // Written on the client thread in onClientTick
+    private volatile boolean inWorld = false;
+    private volatile int tickPing = 0;
+    private volatile long tickWorldClock = -1;
+    private volatile double tickX = Double.NaN, tickY = Double.NaN, tickZ = Double.NaN;
+
+    private volatile MetricSnapshot latest = null;
+
+    private ScheduledExecutorService executor;
+    private ScheduledFuture<?> task;
+    private long periodMillis;
+
+    /** The most recent sample, or {@code null} before the first one in a world. */
+    public MetricSnapshot latest() {
+        return latest;
+    }
+
+    public synchronized void start() {
+        if (executor != null) return;
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Veltium Metric Sampler");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        schedule();
+    }
+
+    /**
+     * Stops sampling. Telemetry and session files are only ever touched on the sampler thread,
+     * so they are closed by a last task queued behind any sample still running, and this waits
+     * briefly for it so the files are complete when the game exits.
+     */
+    public void stop() {
+        ScheduledExecutorService stopping;
+        synchronized (this) {
+            if (executor == null) return;
+            stopping = executor;
+            executor = null;
+            if (task != null) task.cancel(false);
+            task = null;
+            stopping.execute(this::closeAll);
+            stopping.shutdown();
+        }
+
+        try {
+            if (!stopping.awaitTermination(STOP_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                System.err.println("Veltium: metric sampler did not stop in time; session and telemetry files may be incomplete");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void closeAll() {
+        gcMonitor.stop();
+        jfrMonitor.stop();
+        threadMonitor.stop();
+        closeTelemetry();
+        closeSession();
+    }
+
+    /** Copies client-thread-only state for the sampler; called at the end of every client tick. */
+    public void onClientTick(Minecraft client) {
+        inWorld = client.player != null;
+        if (!inWorld) return;
+
+        ClientPacketListener connection = client.getConnection();
+        if (connection != null) {
+            try {
+                PlayerInfo info = connection.getPlayerInfo(client.player.getUUID());
+                tickPing = info != null ? info.getLatency() : 0;
+            } catch (Exception e) {
+                tickPing = 0;
+            }
+        }
+        tickWorldClock = client.level != null ? client.level.getOverworldClockTime() : -1;
+        tickX = client.player.getX();
+        tickY = client.player.getY();
+        tickZ = client.player.getZ();
+    }
+
+    private synchronized void schedule() {
+        if (executor == null) return;
+        if (task != null) task.cancel(false);
+        periodMillis = Math.max(MIN_PERIOD_MILLIS, YACLConfig.current().hudUpdateInterval);
+        task = executor.scheduleAtFixedRate(this::run, 0, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void run() {
+        try {
+            YACLConfig config = YACLConfig.current();
+            if (Math.max(MIN_PERIOD_MILLIS, config.hudUpdateInterval) != periodMillis) {
+                schedule();
+                return;
+            }
+            if (!config.modEnabled || !inWorld || PowerSaver.isMinimized()) return;
+
+            long now = System.currentTimeMillis();
+            if (PowerSaver.isThrottled() && now - lastSampleMillis < BACKGROUND_PERIOD_MILLIS) return;
+            lastSampleMillis = now;
+            sample(config);
+        } catch (Throwable t) {
+            // An escaping exception would silently cancel the periodic task
+            System.err.println("Veltium: metric sampling failed: " + t);
+        }
+    }
+
+    private void sample(YACLConfig config) {
+        long now = System.currentTimeMillis();
+
+        int fps = Minecraft.getInstance().getFps();
+        fpsHistory.add(fps);
+
+        Runtime runtime = Runtime.getRuntime();
+        long usedMemory = runtime.totalMemory() - runtime.freeMemory();
+        long maxMemory = runtime.maxMemory();
+        memoryHistory.add((double) usedMemory / maxMemory * 100.0);
+
+        // Active probes when they have answered, otherwise the tab-list latency
+        RttMonitor.Snapshot rtt = config.activePing ? RttMonitor.snapshot() : RttMonitor.Snapshot.EMPTY;
+        int ping = rtt.isEmpty() ? tickPing : (int) Math.round(rtt.smoothedMillis());
+        pingHistory.add(ping);
+
+        long worldClock = tickWorldClock;
+        long worldTime = worldClock >= 0 ? worldClock % 24000L : -1;
+        long worldTimeSeconds = worldClock >= 0 ? worldTime * 1200L / 24000L : -1;
+        long days = worldClock >= 0 ? worldClock / 24000L : -1;
+
+        if (config.showGcStats) {
+            if (now - lastGcUpdate >= MONITOR_INTERVAL_MILLIS) {
+                gcMonitor.start();
+                gcMonitor.update(System.nanoTime());
+                lastGcUpdate = now;
+            }
+        } else if (gcMonitor.isRunning()) {
+            gcMonitor.stop();
+            lastGcUpdate = 0;
+        }
+
+        if (config.showJfrStats) {
+            if (now - lastJfrUpdate >= MONITOR_INTERVAL_MILLIS) {
+                jfrMonitor.start();
+                jfrMonitor.update(now);
+                lastJfrUpdate = now;
+            }
+        } else if (jfrMonitor.isRunning()) {
+            jfrMonitor.stop();
+            lastJfrUpdate = 0;
+        }
+
+        if (config.showNetworkStats && now - lastNetworkUpdate >= MONITOR_INTERVAL_MILLIS) {
+            NetworkStats.update(now);
+            lastNetworkUpdate = now;
+        }
+
+        if (config.showChunkStats && now - lastChunkUpdate >= MONITOR_INTERVAL_MILLIS) {
+            ChunkStats.update(now);
+            lastChunkUpdate = now;
+        }
+
+        if (config.showThreadStats) {
+            if (now - lastThreadUpdate >= THREAD_INTERVAL_MILLIS) {
+                threadMonitor.start();
+                threadMonitor.update(System.nanoTime());
+                lastThreadUpdate = now;
+            }
+        } else if (threadMonitor.isRunning()) {
+            threadMonitor.stop();
+            lastThreadUpdate = 0;
+        }
+
+        latest = new MetricSnapshot(
+                ++sequence,
+                fps, fpsHistory.min(), (int) fpsHistory.average(), fpsHistory.max(),
+                usedMemory, maxMemory, memoryHistory.min(), memoryHistory.average(), memoryHistory.max(),
+                ping, pingHistory.min(), (int) pingHistory.average(), pingHistory.max(), rtt,
+                worldTimeSeconds, worldTime >= 0 && worldTime < 12000L, days,
+                gcMonitor.snapshot(), lastGcUpdate != 0,
+                jfrMonitor.snapshot(), jfrMonitor.isRunning(),
+                threadMonitor.snapshot());
+
+        if (config.telemetryEnabled) {
+            TelemetryRing ring = telemetry();
+            if (ring != null) {
+                ring.write(now, fps, FrameStats.latestFrameNanos() / 1_000_000f, usedMemory, maxMemory,
+                        ping, (int) worldTime, days, tickX, tickY, tickZ);
+            }
+        } else if (telemetry != null || telemetryFailed) {
+            closeTelemetry();
+        }
+
+        if (config.recordSessions) {
+            recordSession(now, fps, usedMemory, maxMemory, ping);
+        } else if (session != null || sessionFailed) {
+            closeSession();
+        }
+    }
+
+    private void recordSession(long now, int fps, long usedMemory, long maxMemory, int ping) {
+        if (session == null) {
+            if (sessionFailed) return;
+            Path file = FabricLoader.getInstance().getGameDir().resolve("veltium").resolve("sessions")
+                    .resolve(LocalDateTime.now().format(SESSION_NAME) + SessionFormat.EXTENSION);
+            try {
+                session = SessionWriter.create(file, now, sessionLabel());
+                lastSessionFlush = now;
+            } catch (IOException e) {
+                sessionFailed = true;
+                System.err.println("Veltium: cannot create session file " + file + ": " + e.getMessage());
+                return;
+            }
+        }
+
+        ServerTickStats.Snapshot serverTick = ServerTickStats.snapshot();
+        SessionSample sample = new SessionSample(now, fps,
+                (int) (FrameStats.latestFrameNanos() / 1000), (int) (FrameStats.drainWorstFrameNanos() / 1000),
+                (int) (usedMemory >> 20), (int) (maxMemory >> 20), ping,
+                serverTick.isEmpty() ? 0 : (int) Math.round(serverTick.msptAvg() * 10.0));
+        try {
+            session.write(sample);
+            if (now - lastSessionFlush >= SESSION_FLUSH_MILLIS) {
+                session.flush();
+                lastSessionFlush = now;
+            }
+        } catch (IOException e) {
+            System.err.println("Veltium: session recording stopped: " + e.getMessage());
+            closeSession();
+            sessionFailed = true;
+        }
+    }
+
+    private static String sessionLabel() {
+        FabricLoader loader = FabricLoader.getInstance();
+        String version = loader.getModContainer("veltium-mod")
+                .map(mod -> mod.getMetadata().getVersion().getFriendlyString())
+                .orElse("?");
+        return "Veltium " + version + ", " + loader.getAllMods().size() + " mods";
+    }
+
+    private void closeSession() {
+        sessionFailed = false;
+        if (session == null) return;
+        try {
+            session.close();
+        } catch (IOException e) {
+            System.err.println("Veltium: cannot close session file: " + e.getMessage());
+        }
+        session = null;
+    }
+
+    private TelemetryRing telemetry() {
+        if (telemetryFailed && System.currentTimeMillis() >= telemetryRetryAt) telemetryFailed = false;
+        if (telemetry == null && !telemetryFailed) {
+            Path file = FabricLoader.getInstance().getGameDir().resolve("veltium").resolve("telemetry.bin");
+            try {
+                telemetry = TelemetryRing.open(file, TelemetryRing.DEFAULT_CAPACITY);
+            } catch (IOException e) {
+                // Don't retry every sample, e.g. while another process holds the file locked
+                telemetryFailed = true;
+                telemetryRetryAt = System.currentTimeMillis() + TELEMETRY_RETRY_MILLIS;
+                System.err.println("Veltium: cannot open telemetry file " + file + ": " + e.getMessage());
+            }
+        }
+        return telemetry;
+    }
+
+    private void closeTelemetry() {
+        telemetryFailed = false;
+        if (telemetry == null) return;
+        try {
+            telemetry.close();
+        } catch (IOException e) {
+            System.err.println("Veltium: cannot close telemetry file: " + e.getMessage());
+        }
+        telemetry = null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.veltium.stats;
+
+/**
+ * One immutable sample published by {@link MetricSampler}. The renderer compares references
+ * to decide whether anything needs rebuilding; {@code sequence} only grows. World time fields
+ * are {@code -1} while no level is loaded; {@code rtt} is empty unless active ping probes are
+ * running.
+ */
+public record MetricSnapshot(
+        long sequence,
+        int fps, int fpsMin, int fpsAvg, int fpsMax,
+        long usedMemory, long maxMemory, double memoryMin, double memoryAvg, double memoryMax,
+        int ping, int pingMin, int pingAvg, int pingMax, RttMonitor.Snapshot rtt,
+        long worldTimeSeconds, boolean isDay, long days,
+        GcMonitor.Snapshot gc, boolean gcSampled,
+        JfrMonitor.Snapshot jfr, boolean jfrRunning,
+        ThreadMonitor.Snapshot threads) {
+
+    public double memoryPercent() {
+        return (double) usedMemory / maxMemory * 100.0;
+    }
+}
@@ -0,0 +1,153 @@
+package com.veltium.stats;
+
+import net.minecraft.network.protocol.PacketFlow;
+import net.minecraft.network.protocol.PacketType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Packet and byte counts per packet type, fed from the codec mixins on the Netty I/O thread.
+ * Counters are {@link LongAdder}s, so the I/O thread only ever increments striped cells;
+ * the sampler reads the running totals once a second and publishes rates as an immutable
+ * {@link Snapshot}.
+ *
+ * <p>Byte counts are packet payloads before compression and without the length prefix.
+ * Only clientbound packets are counted as inbound and serverbound ones as outbound, so a
+ * LAN-hosted world does not count its guests' traffic. Compression time cannot be split that
+ * way and covers every connection in the process.
+ */
+public final class NetworkStats {
+    public static final int TOP_N = 3;
+
+    private static volatile boolean enabled;
+    private static final Map<PacketType<?>, Counter> counters = new ConcurrentHashMap<>();
+    private static final LongAdder compressNanos = new LongAdder();
+    private static final LongAdder decompressNanos = new LongAdder();
+
+    // Sampler thread only
+    private static long lastUpdate;
+    private static long lastCompressNanos;
+    private static long lastDecompressNanos;
+
+    private static volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /** One packet type in the top list; {@code inbound} is false for packets we send. */
+    public record TypeEntry(String name, boolean inbound, double packetsPerSecond, double kilobytesPerSecond) {}
+
+    public record Snapshot(double packetsInPerSecond, double packetsOutPerSecond,
+                           double kilobytesInPerSecond, double kilobytesOutPerSecond,
+                           double compressMillisPerSecond, double decompressMillisPerSecond,
+                           List<TypeEntry> top) {
+        public static final Snapshot EMPTY = new Snapshot(0, 0, 0, 0, 0, 0, List.of());
+
+        public boolean isEmpty() {
+            return this == EMPTY;
+        }
+    }
+
+    private NetworkStats() {}
+
+    public static Snapshot snapshot() {
+        return snapshot;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static synchronized void setEnabled(boolean value) {
+        if (enabled == value) return;
+        enabled = value;
+        counters.clear();
+        compressNanos.reset();
+        decompressNanos.reset();
+        lastUpdate = 0;
+        lastCompressNanos = 0;
+        lastDecompressNanos = 0;
+        snapshot = Snapshot.EMPTY;
+    }
+
+    public static void onInbound(PacketType<?> type, int bytes) {
+        if (type.flow() == PacketFlow.CLIENTBOUND) count(type, bytes);
+    }
+
+    public static void onOutbound(PacketType<?> type, int bytes) {
+        if (type.flow() == PacketFlow.SERVERBOUND) count(type, bytes);
+    }
+
+    public static void onCompress(long nanos) {
+        compressNanos.add(nanos);
+    }
+
+    public static void onDecompress(long nanos) {
+        decompressNanos.add(nanos);
+    }
+
+    private static void count(PacketType<?> type, int bytes) {
+        Counter counter = counters.get(type);
+        if (counter == null) counter = counters.computeIfAbsent(type, t -> new Counter());
+        counter.packets.increment();
+        counter.bytes.add(bytes);
+    }
+
+    /** Turns the totals since the previous call into per-second rates; meant to be called about once a second. */
+    public static synchronized void update(long nowMillis) {
+        if (!enabled) return;
+
+        double seconds = (nowMillis - lastUpdate) / 1000.0;
+        boolean first = lastUpdate == 0;
+        lastUpdate = nowMillis;
+
+        double packetsIn = 0, packetsOut = 0, bytesIn = 0, bytesOut = 0;
+        List<TypeEntry> types = new ArrayList<>();
+        for (Map.Entry<PacketType<?>, Counter> entry : counters.entrySet()) {
+            Counter counter = entry.getValue();
+            // Running totals instead of sumThenReset, which can drop increments made during the reset
+            long packets = counter.packets.sum();
+            long bytes = counter.bytes.sum();
+            long packetDelta = packets - counter.lastPackets;
+            long byteDelta = bytes - counter.lastBytes;
+            counter.lastPackets = packets;
+            counter.lastBytes = bytes;
+            if (first || packetDelta == 0) continue;
+
+            boolean inbound = entry.getKey().flow() == PacketFlow.CLIENTBOUND;
+            if (inbound) {
+                packetsIn += packetDelta;
+                bytesIn += byteDelta;
+            } else {
+                packetsOut += packetDelta;
+                bytesOut += byteDelta;
+            }
+            types.add(new TypeEntry(entry.getKey().id().getPath(), inbound,
+                    packetDelta / seconds, byteDelta / 1024.0 / seconds));
+        }
+
+        long compress = compressNanos.sum();
+        long decompress = decompressNanos.sum();
+        long compressDelta = compress - lastCompressNanos;
+        long decompressDelta = decompress - lastDecompressNanos;
+        lastCompressNanos = compress;
+        lastDecompressNanos = decompress;
+        if (first || seconds <= 0) return;
+
+        types.sort((a, b) -> Double.compare(b.kilobytesPerSecond(), a.kilobytesPerSecond()));
+        snapshot = new Snapshot(
+                packetsIn / seconds, packetsOut / seconds,
+                bytesIn / 1024.0 / seconds, bytesOut / 1024.0 / seconds,
+                compressDelta / 1_000_000.0 / seconds, decompressDelta / 1_000_000.0 / seconds,
+                List.copyOf(types.subList(0, Math.min(TOP_N, types.size()))));
+    }
+
+    private static final class Counter {
+        final LongAdder packets = new LongAdder();
+        final LongAdder bytes = new LongAdder();
+        // Sampler thread only
+        long lastPackets;
+        long lastBytes;
+    }
+}
@@ -0,0 +1,137 @@
+package com.veltium.stats;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.Identifier;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Per-type CPU cost of entity and block entity rendering (render state extraction plus
+ * submission), fed from the render dispatcher mixins. Costs accumulate in arrays indexed by
+ * registry id; once a second the most expensive types are published as an immutable list.
+ * Render thread only, and a single boolean check per call while disabled.
+ */
+public final class RenderCostProfiler {
+    public static final int TOP_N = 5;
+    private static final long PUBLISH_NANOS = 1_000_000_000L;
+
+    private static boolean enabled;
+    private static final Table entities = new Table();
+    private static final Table blockEntities = new Table();
+    private static int depth;
+    private static long start;
+    private static int frames;
+    private static long windowStart;
+
+    private static volatile List<Entry> top = List.of();
+
+    /** One row of the panel: average instances per frame and their cost in ms per frame. */
+    public record Entry(String name, double instancesPerFrame, double millisPerFrame, double microsPerInstance) {}
+
+    private RenderCostProfiler() {}
+
+    public static List<Entry> top() {
+        return top;
+    }
+
+    public static void setEnabled(boolean value) {
+        if (enabled == value) return;
+        enabled = value;
+        entities.clear();
+        blockEntities.clear();
+        depth = 0;
+        frames = 0;
+        windowStart = 0;
+        top = List.of();
+    }
+
+    public static void onFrame(long now) {
+        if (!enabled) return;
+        depth = 0;
+        frames++;
+        if (windowStart == 0) {
+            windowStart = now;
+        } else if (now - windowStart >= PUBLISH_NANOS) {
+            publish();
+            windowStart = now;
+        }
+    }
+
+    // Nested calls are folded into the outermost type. Extraction and submission are timed
+    // separately and summed; only extraction counts an instance.
+
+    public static void begin() {
+        if (enabled && depth++ == 0) start = System.nanoTime();
+    }
+
+    public static void endEntity(EntityType<?> type, boolean instance) {
+        if (enabled && depth > 0 && --depth == 0 && type != null) {
+            entities.add(BuiltInRegistries.ENTITY_TYPE.getId(type), System.nanoTime() - start, instance);
+        }
+    }
+
+    public static void endBlockEntity(BlockEntityType<?> type, boolean instance) {
+        if (enabled && depth > 0 && --depth == 0 && type != null) {
+            blockEntities.add(BuiltInRegistries.BLOCK_ENTITY_TYPE.getId(type), System.nanoTime() - start, instance);
+        }
+    }
+
+    private static void publish() {
+        List<Entry> rows = new ArrayList<>(TOP_N * 2);
+        collect(entities, rows, true);
+        collect(blockEntities, rows, false);
+        rows.sort((a, b) -> Double.compare(b.millisPerFrame(), a.millisPerFrame()));
+        top = List.copyOf(rows.subList(0, Math.min(TOP_N, rows.size())));
+
+        entities.clear();
+        blockEntities.clear();
+        frames = 0;
+    }
+
+    private static void collect(Table table, List<Entry> rows, boolean entity) {
+        if (frames == 0) return;
+        // Only the TOP_N largest ids per table can make the final list; pick them without sorting
+        for (int picked = 0; picked < TOP_N; picked++) {
+            int best = -1;
+            for (int id = 0; id < table.nanos.length; id++) {
+                if (table.nanos[id] > 0 && (best < 0 || table.nanos[id] > table.nanos[best])) best = id;
+            }
+            if (best < 0) return;
+
+            Identifier key = entity
+                    ? BuiltInRegistries.ENTITY_TYPE.getKey(BuiltInRegistries.ENTITY_TYPE.byId(best))
+                    : BuiltInRegistries.BLOCK_ENTITY_TYPE.getKey(BuiltInRegistries.BLOCK_ENTITY_TYPE.byId(best));
+            String name = key == null ? "#" + best : key.getPath();
+            rows.add(new Entry(name,
+                    (double) table.counts[best] / frames,
+                    table.nanos[best] / 1_000_000.0 / frames,
+                    table.counts[best] == 0 ? 0 : table.nanos[best] / 1000.0 / table.counts[best]));
+            table.nanos[best] = 0;
+        }
+    }
+
+    private static final class Table {
+        long[] nanos = new long[64];
+        int[] counts = new int[64];
+
+        void add(int id, long duration, boolean instance) {
+            if (id < 0) return;
+            if (id >= nanos.length) {
+                int size = Math.max(id + 1, nanos.length * 2);
+                nanos = Arrays.copyOf(nanos, size);
+                counts = Arrays.copyOf(counts, size);
+            }
+            nanos[id] += duration;
+            if (instance) counts[id]++;
+        }
+
+        void clear() {
+            Arrays.fill(nanos, 0);
+            Arrays.fill(counts, 0);
+        }
+    }
+}
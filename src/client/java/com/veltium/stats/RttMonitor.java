@@ -0,0 +1,162 @@
+package com.veltium.stats;
+
+import net.minecraft.client.multiplayer.ClientPacketListener;
+import net.minecraft.network.protocol.ping.ServerboundPingRequestPacket;
+
+import java.util.Arrays;
+
+/**
+ * Measures round-trip time with the play protocol's ping request and pong response, instead
+ * of the tab-list latency the server refreshes only every few seconds and smooths. A probe
+ * goes out every {@link #PROBE_INTERVAL_NANOS}; the pong is timed on the Netty thread, before
+ * it would wait for the next client tick.
+ *
+ * <p>Smoothed RTT uses the TCP gain of 1/8 and jitter the RTP estimator with a gain of 1/16.
+ * Loss is the share of the last {@link #HISTORY} probes without a pong within
+ * {@link #TIMEOUT_NANOS}.
+ *
+ * <p>Probe payloads carry {@link #PAYLOAD_TAG} in the high bits. The debug screen's ping chart
+ * sends plain millisecond timestamps, so it never sees our pongs and we never take its own.
+ */
+public final class RttMonitor {
+    private static final long PROBE_INTERVAL_NANOS = 250_000_000L;
+    private static final long TIMEOUT_NANOS = 3_000_000_000L;
+    private static final long PAYLOAD_TAG = 0x564CL << 48;
+    private static final long PAYLOAD_TAG_MASK = 0xFFFFL << 48;
+    private static final int MAX_PENDING = 16;
+    private static final int HISTORY = 64;
+    private static final double RTT_GAIN = 1.0 / 8;
+    private static final double JITTER_GAIN = 1.0 / 16;
+
+    private static final long[] pendingSequence = new long[MAX_PENDING];
+    private static final long[] pendingSent = new long[MAX_PENDING];
+    private static final boolean[] lost = new boolean[HISTORY];
+    private static int outcomeIndex;
+    private static int outcomeCount;
+    private static int lostCount;
+
+    private static long sequence;
+    private static long lastProbe;
+    private static double lastMillis;
+    private static double smoothedMillis = -1;
+    private static double jitterMillis;
+    private static ClientPacketListener connection;
+
+    private static volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public record Snapshot(double lastMillis, double smoothedMillis, double jitterMillis, double lossPercent) {
+        public static final Snapshot EMPTY = new Snapshot(-1, -1, 0, 0);
+
+        public boolean isEmpty() {
+            return smoothedMillis < 0;
+        }
+    }
+
+    private RttMonitor() {}
+
+    public static Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Sends a probe when one is due and expires unanswered ones. Called every client tick with
+     * the current connection, or {@code null} to stop measuring.
+     */
+    public static void tick(ClientPacketListener listener, long now) {
+        long payload;
+        synchronized (RttMonitor.class) {
+            if (listener != connection) {
+                reset();
+                connection = listener;
+            }
+            if (listener == null) return;
+
+            expire(now);
+            if (now - lastProbe < PROBE_INTERVAL_NANOS) return;
+
+            int slot = -1;
+            for (int i = 0; i < MAX_PENDING; i++) {
+                if (pendingSent[i] == 0) {
+                    slot = i;
+                    break;
+                }
+            }
+            if (slot < 0) return;
+
+            payload = PAYLOAD_TAG | (++sequence & ~PAYLOAD_TAG_MASK);
+            pendingSequence[slot] = payload;
+            pendingSent[slot] = now;
+            lastProbe = now;
+        }
+        listener.send(new ServerboundPingRequestPacket(payload));
+    }
+
+    /**
+     * Handles a pong; returns {@code true} if it answered one of our probes and must not reach
+     * the vanilla handler. Late pongs for expired probes are swallowed as well.
+     */
+    public static synchronized boolean onPong(long payload, long now) {
+        if ((payload & PAYLOAD_TAG_MASK) != PAYLOAD_TAG) return false;
+
+        for (int i = 0; i < MAX_PENDING; i++) {
+            if (pendingSent[i] != 0 && pendingSequence[i] == payload) {
+                double rtt = (now - pendingSent[i]) / 1_000_000.0;
+                pendingSent[i] = 0;
+
+                if (smoothedMillis < 0) {
+                    smoothedMillis = rtt;
+                } else {
+                    jitterMillis += (Math.abs(rtt - lastMillis) - jitterMillis) * JITTER_GAIN;
+                    smoothedMillis += (rtt - smoothedMillis) * RTT_GAIN;
+                }
+                lastMillis = rtt;
+                recordOutcome(false);
+                publish();
+                break;
+            }
+        }
+        return true;
+    }
+
+    private static void expire(long now) {
+        boolean changed = false;
+        for (int i = 0; i < MAX_PENDING; i++) {
+            if (pendingSent[i] != 0 && now - pendingSent[i] > TIMEOUT_NANOS) {
+                pendingSent[i] = 0;
+                recordOutcome(true);
+                changed = true;
+            }
+        }
+        if (changed) publish();
+    }
+
+    private static void recordOutcome(boolean wasLost) {
+        if (outcomeCount == HISTORY) {
+            if (lost[outcomeIndex]) lostCount--;
+        } else {
+            outcomeCount++;
+        }
+        lost[outcomeIndex] = wasLost;
+        if (wasLost) lostCount++;
+        outcomeIndex = (outcomeIndex + 1) % HISTORY;
+    }
+
+    private static void publish() {
+        if (smoothedMillis < 0) return;
+        snapshot = new Snapshot(lastMillis, smoothedMillis, jitterMillis, lostCount * 100.0 / outcomeCount);
+    }
+
+    private static void reset() {
+        Arrays.fill(pendingSent, 0);
+        Arrays.fill(lost, false);
+        outcomeIndex = 0;
+        outcomeCount = 0;
+        lostCount = 0;
+        lastProbe = 0;
+        lastMillis = 0;
+        smoothedMillis = -1;
+        jitterMillis = 0;
+        connection = null;
+        snapshot = Snapshot.EMPTY;
+    }
+}
@@ -0,0 +1,134 @@
+package com.veltium.stats;
+
+import net.minecraft.client.multiplayer.ClientPacketListener;
+
+/**
+ * Estimates a remote server's tick rate from the time packets it sends every 20 ticks: the
+ * game time they carry advances one per server tick, so game ticks over wall-clock time
+ * between packets is the server's TPS. Arrival times are taken on the Netty thread, and the
+ * rate is measured over a {@link #WINDOW_NANOS} window so network jitter on the two endpoints
+ * is spread over many seconds.
+ *
+ * <p>Confidence comes from how many packets the window holds and how much their spacing
+ * jitters; a server that stalls shows up as a long gap and a lower rate, jitter alone only
+ * lowers the confidence.
+ */
+public final class ServerTpsEstimator {
+    private static final int MAX_SAMPLES = 32;
+    private static final long WINDOW_NANOS = 10_000_000_000L;
+    private static final long RESET_GAP_NANOS = 30_000_000_000L;
+    private static final int MIN_SAMPLES = 3;
+    private static final int HIGH_CONFIDENCE_SAMPLES = 8;
+
+    public enum Confidence { LOW, MEDIUM, HIGH }
+
+    private static final long[] arrivals = new long[MAX_SAMPLES];
+    private static final long[] gameTimes = new long[MAX_SAMPLES];
+    private static int next;
+    private static int size;
+    private static ClientPacketListener connection;
+    private static float targetTickRate = 20f;
+    private static boolean frozen;
+
+    private static volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * {@code msptLag} is how much longer than the target a server tick takes on average,
+     * {@code 0} while the server keeps up.
+     */
+    public record Snapshot(double tps, double targetTps, double msptLag, Confidence confidence, int samples) {
+        public static final Snapshot EMPTY = new Snapshot(0, 20, 0, Confidence.LOW, 0);
+
+        public boolean isEmpty() {
+            return samples == 0;
+        }
+    }
+
+    private ServerTpsEstimator() {}
+
+    public static Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Tracks the current connection and the tick rate the server announced; called every
+     * client tick, with {@code null} to stop estimating.
+     */
+    public static synchronized void tick(ClientPacketListener listener, float tickRate, boolean isFrozen) {
+        if (listener != connection) {
+            reset();
+            connection = listener;
+        }
+        // A frozen or re-targeted server legitimately changes how fast game time advances
+        if (isFrozen != frozen || tickRate != targetTickRate) reset();
+        targetTickRate = tickRate;
+        frozen = isFrozen;
+    }
+
+    /** Records a time packet; called on the Netty thread as it arrives. */
+    public static synchronized void onTimePacket(ClientPacketListener listener, long gameTime, long now) {
+        if (listener != connection || frozen) return;
+
+        if (size > 0) {
+            int last = (next - 1 + MAX_SAMPLES) % MAX_SAMPLES;
+            if (gameTime <= gameTimes[last] || now - arrivals[last] > RESET_GAP_NANOS) reset();
+        }
+
+        arrivals[next] = now;
+        gameTimes[next] = gameTime;
+        next = (next + 1) % MAX_SAMPLES;
+        if (size < MAX_SAMPLES) size++;
+
+        publish(now);
+    }
+
+    private static void publish(long now) {
+        int last = (next - 1 + MAX_SAMPLES) % MAX_SAMPLES;
+        int first = last;
+        int count = 1;
+        for (int i = 1; i < size; i++) {
+            int index = (last - i + MAX_SAMPLES) % MAX_SAMPLES;
+            if (now - arrivals[index] > WINDOW_NANOS) break;
+            first = index;
+            count++;
+        }
+        if (count < MIN_SAMPLES) return;
+
+        double seconds = (arrivals[last] - arrivals[first]) / 1_000_000_000.0;
+        double ticks = gameTimes[last] - gameTimes[first];
+        if (seconds <= 0) return;
+        double tps = ticks / seconds;
+
+        // Mean deviation of each gap from the one the window's rate predicts
+        double deviation = 0;
+        for (int i = 0, index = first; i < count - 1; i++, index = (index + 1) % MAX_SAMPLES) {
+            int following = (index + 1) % MAX_SAMPLES;
+            double gap = (arrivals[following] - arrivals[index]) / 1_000_000_000.0;
+            double expected = (gameTimes[following] - gameTimes[index]) / tps;
+            deviation += Math.abs(gap - expected);
+        }
+        deviation /= count - 1;
+
+        // Jitter moves both endpoints, so the rate can be off by about twice the deviation over the span
+        double tpsError = tps * 2 * deviation / seconds;
+        Confidence confidence;
+        if (count >= HIGH_CONFIDENCE_SAMPLES && tpsError < 0.5) {
+            confidence = Confidence.HIGH;
+        } else if (tpsError < 2) {
+            confidence = Confidence.MEDIUM;
+        } else {
+            confidence = Confidence.LOW;
+        }
+
+        double target = targetTickRate;
+        double tickMillis = tps > 0 ? 1000.0 / tps : Double.POSITIVE_INFINITY;
+        double lag = Math.max(0, tickMillis - 1000.0 / target);
+        snapshot = new Snapshot(Math.min(tps, target), target, lag, confidence, count);
+    }
+
+    private static void reset() {
+        next = 0;
+        size = 0;
+        snapshot = Snapshot.EMPTY;
+    }
+}
@@ -0,0 +1,74 @@
+package com.veltium.stats;
+
+/**
+ * Sodium chunk pipeline metrics fed from {@code RenderSectionManagerMixin}. Written only on
+ * the render thread; once a second it publishes an immutable {@link Snapshot} through a
+ * volatile field. Stays empty when Sodium is absent or its internals changed.
+ */
+public final class SodiumChunkStats {
+    private static final long PUBLISH_NANOS = 1_000_000_000L;
+
+    private static long uploadStart;
+    private static long windowStart;
+    private static long uploadNanos;
+    private static long uploadMaxNanos;
+    private static int frames;
+    private static int buildsCompleted;
+
+    private static volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public record Snapshot(int queuedJobs, int busyThreads, int totalThreads, int buildsPerSecond,
+                           double uploadMillisPerFrame, double uploadMaxMillis, int visibleSections,
+                           long publishedAt) {
+        public static final Snapshot EMPTY = new Snapshot(0, 0, 0, 0, 0, 0, 0, 0);
+
+        public boolean isEmpty() {
+            return publishedAt == 0;
+        }
+    }
+
+    private SodiumChunkStats() {}
+
+    public static Snapshot snapshot() {
+        return snapshot;
+    }
+
+    public static void onUploadStart(long now) {
+        uploadStart = now;
+    }
+
+    public static void onBuildsCompleted(int count) {
+        buildsCompleted += count;
+    }
+
+    public static void onUploadEnd(long now, int queuedJobs, int busyThreads, int totalThreads, int visibleSections) {
+        if (uploadStart != 0) {
+            long duration = now - uploadStart;
+            uploadNanos += duration;
+            uploadMaxNanos = Math.max(uploadMaxNanos, duration);
+            uploadStart = 0;
+        }
+        frames++;
+
+        if (windowStart == 0) {
+            windowStart = now;
+            return;
+        }
+
+        long elapsed = now - windowStart;
+        if (elapsed < PUBLISH_NANOS) return;
+
+        snapshot = new Snapshot(queuedJobs, busyThreads, totalThreads,
+                (int) Math.round(buildsCompleted * 1_000_000_000.0 / elapsed),
+                uploadNanos / 1_000_000.0 / frames,
+                uploadMaxNanos / 1_000_000.0,
+                visibleSections,
+                now);
+
+        windowStart = now;
+        uploadNanos = 0;
+        uploadMaxNanos = 0;
+        frames = 0;
+        buildsCompleted = 0;
+    }
+}
@@ -0,0 +1,193 @@
+package com.veltium.stats;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Attributes CPU time and blocked/waiting time to groups of threads by name, from
+ * {@link ThreadMXBean} per-thread counters, so a machine with many cores can show which
+ * thread is pegged rather than a process-wide average. Percentages are of one core.
+ *
+ * <p>GC, JIT and other VM threads are not Java threads and have no counters of their own;
+ * their share is what the process used beyond the sum of the Java threads. Contention
+ * monitoring costs a little on every monitor enter, so it is only switched on between
+ * {@link #start()} and {@link #stop()}. Only the sampler thread drives it, shutdown included.
+ */
+public final class ThreadMonitor {
+    public enum Group {
+        RENDER, SERVER, NETTY, CHUNK_BUILDER, WORKER, OTHER;
+
+        public String translationKey() {
+            return "text.optimizationmod.hud.thread_group." + name().toLowerCase(Locale.ROOT);
+        }
+
+        static Group of(String threadName) {
+            if (threadName.equals("Render thread")) return RENDER;
+            if (threadName.equals("Server thread")) return SERVER;
+            if (threadName.startsWith("Netty ")) return NETTY;
+            // Sodium's builders; vanilla meshing and world generation both run on the worker pool
+            if (threadName.startsWith("Chunk Render Task Executor")) return CHUNK_BUILDER;
+            if (threadName.startsWith("Worker-") || threadName.startsWith("IO-Worker-")) return WORKER;
+            return OTHER;
+        }
+    }
+
+    /** {@code hottestPercent} is the busiest single thread in the group, the "pegged" signal. */
+    public record GroupEntry(Group group, int threads, double cpuPercent, double hottestPercent,
+                             double blockedMillisPerSecond, double waitedMillisPerSecond) {}
+
+    /** {@code vmPercent} is {@code -1} when process CPU time is not available. */
+    public record Snapshot(List<GroupEntry> groups, double vmPercent) {
+        public static final Snapshot EMPTY = new Snapshot(List.of(), -1);
+
+        public boolean isEmpty() {
+            return groups.isEmpty();
+        }
+    }
+
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    private final com.sun.management.OperatingSystemMXBean osBean;
+
+    private final Map<Long, ThreadTimes> threads = new HashMap<>();
+    private long lastUpdate;
+    private long lastProcessCpu = -1;
+    private volatile boolean running;
+    private boolean enabledContention;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public ThreadMonitor() {
+        OperatingSystemMXBean bean = ManagementFactory.getOperatingSystemMXBean();
+        this.osBean = bean instanceof com.sun.management.OperatingSystemMXBean sunBean ? sunBean : null;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        if (threadBean.isThreadCpuTimeSupported() && !threadBean.isThreadCpuTimeEnabled()) {
+            threadBean.setThreadCpuTimeEnabled(true);
+        }
+        // Leave contention monitoring alone if someone else (a profiler) already turned it on
+        if (threadBean.isThreadContentionMonitoringSupported() && !threadBean.isThreadContentionMonitoringEnabled()) {
+            threadBean.setThreadContentionMonitoringEnabled(true);
+            enabledContention = true;
+        }
+    }
+
+    public synchronized void stop() {
+        if (!running) return;
+        running = false;
+        if (enabledContention) {
+            threadBean.setThreadContentionMonitoringEnabled(false);
+            enabledContention = false;
+        }
+        threads.clear();
+        lastUpdate = 0;
+        lastProcessCpu = -1;
+        snapshot = Snapshot.EMPTY;
+    }
+
+    /** Recomputes the snapshot from the counters since the previous call. */
+    public synchronized void update(long now) {
+        if (!running || !threadBean.isThreadCpuTimeSupported()) return;
+
+        double seconds = (now - lastUpdate) / 1_000_000_000.0;
+        boolean first = lastUpdate == 0;
+        lastUpdate = now;
+
+        long[] ids = threadBean.getAllThreadIds();
+        ThreadInfo[] infos = threadBean.getThreadInfo(ids, 0);
+        boolean contention = threadBean.isThreadContentionMonitoringEnabled();
+
+        int groupCount = Group.values().length;
+        int[] counts = new int[groupCount];
+        long[] cpu = new long[groupCount];
+        long[] hottest = new long[groupCount];
+        long[] blocked = new long[groupCount];
+        long[] waited = new long[groupCount];
+        long threadCpuTotal = 0;
+
+        Map<Long, ThreadTimes> seen = new HashMap<>(ids.length * 2);
+        for (int i = 0; i < ids.length; i++) {
+            ThreadInfo info = infos[i];
+            long cpuTime = threadBean.getThreadCpuTime(ids[i]);
+            // Thread ended between the two calls
+            if (info == null || cpuTime < 0) continue;
+
+            ThreadTimes times = threads.get(ids[i]);
+            if (times == null) {
+                times = new ThreadTimes(Group.of(info.getThreadName()));
+                // Every thread is seen on each pass, so a new one started during this interval
+                // and all of its time belongs to it; on the first pass it only sets the baseline
+                if (!first) {
+                    times.cpu = 0;
+                    times.blocked = 0;
+                    times.waited = 0;
+                }
+            }
+            seen.put(ids[i], times);
+
+            long blockedTime = contention ? info.getBlockedTime() : -1;
+            long waitedTime = contention ? info.getWaitedTime() : -1;
+            int group = times.group.ordinal();
+            counts[group]++;
+            if (times.cpu >= 0) {
+                long cpuDelta = cpuTime - times.cpu;
+                cpu[group] += cpuDelta;
+                hottest[group] = Math.max(hottest[group], cpuDelta);
+                threadCpuTotal += cpuDelta;
+                if (blockedTime >= 0 && times.blocked >= 0) blocked[group] += blockedTime - times.blocked;
+                if (waitedTime >= 0 && times.waited >= 0) waited[group] += waitedTime - times.waited;
+            }
+            times.cpu = cpuTime;
+            times.blocked = blockedTime;
+            times.waited = waitedTime;
+        }
+        threads.clear();
+        threads.putAll(seen);
+
+        long processCpu = osBean != null ? osBean.getProcessCpuTime() : -1;
+        long processDelta = processCpu >= 0 && lastProcessCpu >= 0 ? processCpu - lastProcessCpu : -1;
+        lastProcessCpu = processCpu;
+        if (first || seconds <= 0) return;
+
+        double nanosToPercent = 100.0 / (seconds * 1_000_000_000.0);
+        List<GroupEntry> groups = new ArrayList<>(groupCount);
+        for (Group group : Group.values()) {
+            int index = group.ordinal();
+            if (counts[index] == 0) continue;
+            // Blocked and waited times are in milliseconds
+            groups.add(new GroupEntry(group, counts[index],
+                    cpu[index] * nanosToPercent, hottest[index] * nanosToPercent,
+                    blocked[index] / seconds, waited[index] / seconds));
+        }
+        // Threads that ended during the interval also land in the VM share; close enough at this rate
+        double vmPercent = processDelta >= 0 ? Math.max(0, processDelta - threadCpuTotal) * nanosToPercent : -1;
+        snapshot = new Snapshot(List.copyOf(groups), vmPercent);
+    }
+
+    private static final class ThreadTimes {
+        final Group group;
+        long cpu = -1;
+        long blocked = -1;
+        long waited = -1;
+
+        ThreadTimes(Group group) {
+            this.group = group;
+        }
+    }
+}
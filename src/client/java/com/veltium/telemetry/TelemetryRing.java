@@ -0,0 +1,146 @@
+package com.veltium.telemetry;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Publishes live metrics into a memory-mapped file so overlays and dashboards on the same
+ * machine can poll them without scraping the screen. Only the sampler thread writes.
+ *
+ * <p>Layout, version 1. All values are little-endian and all offsets are in bytes.
+ * <pre>
+ * Header (64 bytes)
+ *   0  u32  magic         0x4D544C56 ("VLTM" in file order)
+ *   4  u16  version       1
+ *   6  u16  headerSize    64
+ *   8  u32  recordSize    80
+ *  12  u32  capacity      number of records in the ring
+ *  16  u64  writeCount    records written so far; the newest is (writeCount - 1) % capacity
+ *  24  i64  sessionStart  epoch millis when the file was opened
+ *  32  i64  pid           process id of the game
+ *  40  u64  generation    incremented every time the game reopens the file
+ *  48  ..   reserved, zero
+ *
+ * Record i at headerSize + i * recordSize (80 bytes)
+ *   0  u64  seq           odd while the record is being written, even once complete
+ *   8  i64  timestamp     epoch millis
+ *  16  i32  fps
+ *  20  f32  frameTimeMs   duration of the latest frame
+ *  24  i64  usedMemory    bytes
+ *  32  i64  maxMemory     bytes
+ *  40  i32  ping          ms, 0 without a connection
+ *  44  i32  dayTime       world ticks into the day 0..23999, -1 without a level
+ *  48  i64  day           world day, -1 without a level
+ *  56  f64  x             player position, NaN without a player
+ *  64  f64  y
+ *  72  f64  z
+ * </pre>
+ *
+ * <p>Readers read {@code seq}, then the record, then {@code seq} again, and keep the record
+ * only if both reads are equal and even. {@code writeCount} is stored after the record is
+ * complete, so a reader that starts from it always finds a finished record or a torn one it
+ * can detect.
+ *
+ * <p>The file is reused across game starts rather than truncated, so a reader may keep it
+ * mapped: on open the magic is cleared, the records are zeroed and {@code generation} goes
+ * up before the magic is written again. A reader that sees the magic missing or the
+ * generation change starts over from {@code writeCount}.
+ */
+public final class TelemetryRing implements AutoCloseable {
+    public static final int MAGIC = 0x4D544C56;
+    public static final short VERSION = 1;
+    public static final int HEADER_SIZE = 64;
+    public static final int RECORD_SIZE = 80;
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private long writeCount;
+
+    private TelemetryRing(FileChannel channel, MappedByteBuffer buffer, int capacity) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Creates {@code file} or takes over an existing one and writes a fresh header. The file is
+     * never truncated: on Windows that fails while an overlay still has it mapped.
+     */
+    public static TelemetryRing open(Path file, int capacity) throws IOException {
+        Files.createDirectories(file.getParent());
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            // map() grows a shorter file; a longer one from a bigger capacity keeps its unused tail
+            long size = HEADER_SIZE + (long) capacity * RECORD_SIZE;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            // Invalidate the previous session for readers that still have the file mapped
+            buffer.putInt(0, 0);
+            VarHandle.storeStoreFence();
+            long generation = buffer.getLong(40) + 1;
+            // Records left odd by a crash mid-write would otherwise look complete after one more write
+            for (int offset = HEADER_SIZE; offset < size; offset += 8) buffer.putLong(offset, 0L);
+
+            buffer.putShort(4, VERSION);
+            buffer.putShort(6, (short) HEADER_SIZE);
+            buffer.putInt(8, RECORD_SIZE);
+            buffer.putInt(12, capacity);
+            buffer.putLong(24, System.currentTimeMillis());
+            buffer.putLong(32, ProcessHandle.current().pid());
+            buffer.putLong(40, generation);
+            LONGS.setRelease(buffer, 16, 0L);
+            // Magic goes last so a reader never accepts a half-written header; the fence keeps
+            // every store above from moving past it
+            VarHandle.releaseFence();
+            buffer.putInt(0, MAGIC);
+
+            return new TelemetryRing(channel, buffer, capacity);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public void write(long timestamp, int fps, float frameTimeMs, long usedMemory, long maxMemory,
+                      int ping, int dayTime, long day, double x, double y, double z) {
+        int offset = HEADER_SIZE + (int) (writeCount % capacity) * RECORD_SIZE;
+        long seq = buffer.getLong(offset);
+
+        LONGS.setVolatile(buffer, offset, seq + 1);
+        // A volatile store only orders what came before it; without this fence the payload
+        // stores below may become visible while seq is still even
+        VarHandle.storeStoreFence();
+        buffer.putLong(offset + 8, timestamp);
+        buffer.putInt(offset + 16, fps);
+        buffer.putFloat(offset + 20, frameTimeMs);
+        buffer.putLong(offset + 24, usedMemory);
+        buffer.putLong(offset + 32, maxMemory);
+        buffer.putInt(offset + 40, ping);
+        buffer.putInt(offset + 44, dayTime);
+        buffer.putLong(offset + 48, day);
+        buffer.putDouble(offset + 56, x);
+        buffer.putDouble(offset + 64, y);
+        buffer.putDouble(offset + 72, z);
+        LONGS.setRelease(buffer, offset, seq + 2);
+
+        LONGS.setRelease(buffer, 16, ++writeCount);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,53 @@
+package com.veltium.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Config save and load against a temporary file, as done when the settings screen closes and
+ * at startup. Uses the package-private path overloads so no game or loader is needed.
+ */
+@State(Scope.Thread)
+public class YACLConfigBenchmark {
+    private Path directory;
+    private Path file;
+    private YACLConfig config;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("veltium-jmh");
+        file = directory.resolve("veltium-config.json");
+        config = new YACLConfig();
+        config.showNotifications = false;
+        config.save(file);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public YACLConfig save() {
+        config.save(file);
+        return config;
+    }
+
+    @Benchmark
+    public YACLConfig load() {
+        config.load(file);
+        return config;
+    }
+}
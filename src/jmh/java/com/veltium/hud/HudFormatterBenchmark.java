@@ -0,0 +1,75 @@
+package com.veltium.hud;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+
+/**
+ * Line text building as done in the {@code HudWidget} updates: one formatter call chain per
+ * visible line. Run with {@code -prof gc}; everything except the returned String should
+ * be allocation-free.
+ */
+@State(Scope.Thread)
+public class HudFormatterBenchmark {
+    private static final Map<String, String> EN_US = Map.of(
+            "fps_stats", "FPS: %s (min: %s, avg: %s, max: %s)",
+            "memory_stats", "Memory: %s (min: %s, avg: %s, max: %s)",
+            "coordinates", "XYZ: %s %s %s",
+            "coordinates_int", "XYZ: %s %s %s",
+            "world_time", "World time: %s (%s)");
+
+    private HudFormatter formatter;
+    private double x, y, z;
+    private int tick;
+
+    @Setup
+    public void setup() {
+        formatter = new HudFormatter(EN_US::get);
+        x = 1234.5678;
+        y = 64.0;
+        z = -9876.54321;
+    }
+
+    @Benchmark
+    public String fpsStats() {
+        int fps = 140 + (tick++ & 15);
+        return formatter.begin("fps_stats").argInt(fps).argInt(97).argInt(141).argInt(188).build();
+    }
+
+    @Benchmark
+    public String memoryStats() {
+        return formatter.begin("memory_stats")
+                .argMemory(2_345_678_912L, 4_294_967_296L)
+                .argPercent(41.2).argPercent(53.7).argPercent(71.9)
+                .build();
+    }
+
+    @Benchmark
+    public String coordinatesDecimal() {
+        x += 0.1;
+        return formatter.begin("coordinates").argDecimal(x).argDecimal(y).argDecimal(z).build();
+    }
+
+    @Benchmark
+    public String coordinatesInt() {
+        x += 1;
+        return formatter.begin("coordinates_int")
+                .argInt(Math.round(x)).argInt(Math.round(y)).argInt(Math.round(z)).build();
+    }
+
+    @Benchmark
+    public String coordinatesStringFormat() {
+        // Baseline: what the HUD did before HudFormatter
+        x += 0.1;
+        return String.format("XYZ: %.1f %.1f %.1f", x, y, z);
+    }
+
+    @Benchmark
+    public String worldTime() {
+        long seconds = (tick++ & 1023);
+        return formatter.begin("world_time").argClock(seconds / 60, seconds % 60).argText("Day").build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.veltium.session;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Per-sample cost of session recording, with the file replaced by a discarding stream.
+ */
+@State(Scope.Thread)
+public class SessionWriterBenchmark {
+	private SessionWriter writer;
+	private long timestamp;
+	private int tick;
+
+	@Setup
+	public void setup() throws IOException {
+		writer = new SessionWriter(OutputStream.nullOutputStream(), 0, "benchmark");
+	}
+
+	@Benchmark
+	public void writeSample() throws IOException {
+		int jitter = tick++ & 7;
+		timestamp += 25;
+		writer.write(new SessionSample(timestamp, 140 + jitter, 7100 + jitter * 40, 9000 + jitter * 100,
+				2400 + (tick >> 6 & 63), 4096, 42 + (jitter >> 2), 0));
+	}
+}
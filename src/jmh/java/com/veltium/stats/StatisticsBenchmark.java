@@ -0,0 +1,67 @@
+package com.veltium.stats;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+
+/**
+ * The aggregation behind each HUD update: the metric sampler's min/avg/max histories and the
+ * frame-time percentiles read on the render thread, plus the per-frame histogram insert.
+ */
+@State(Scope.Thread)
+public class StatisticsBenchmark {
+    private final IntHistory fpsHistory = new IntHistory(100);
+    private final DoubleHistory memoryHistory = new DoubleHistory(100);
+    private final FrameTimeHistogram frames = new FrameTimeHistogram(4096);
+    private final int[] fpsSamples = new int[1024];
+    private final long[] frameSamples = new long[1024];
+    private int index;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < fpsSamples.length; i++) {
+            fpsSamples[i] = 90 + random.nextInt(80);
+            frameSamples[i] = 5_000_000L + random.nextLong(12_000_000L) + (random.nextInt(200) == 0 ? 80_000_000L : 0);
+        }
+        for (int i = 0; i < 100; i++) {
+            fpsHistory.add(fpsSamples[i]);
+            memoryHistory.add(fpsSamples[i] / 2.0);
+        }
+        for (int i = 0; i < 4096; i++) {
+            frames.record(frameSamples[i & 1023]);
+        }
+    }
+
+    @Benchmark
+    public void sampleHistories(Blackhole bh) {
+        int fps = fpsSamples[index++ & 1023];
+        fpsHistory.add(fps);
+        memoryHistory.add(fps / 2.0);
+        bh.consume(fpsHistory.min());
+        bh.consume(fpsHistory.average());
+        bh.consume(fpsHistory.max());
+        bh.consume(memoryHistory.min());
+        bh.consume(memoryHistory.average());
+        bh.consume(memoryHistory.max());
+    }
+
+    @Benchmark
+    public void recordFrame() {
+        frames.record(frameSamples[index++ & 1023]);
+    }
+
+    @Benchmark
+    public void frameTimePercentiles(Blackhole bh) {
+        bh.consume(frames.averageMillis());
+        bh.consume(frames.percentileMillis(0.50));
+        bh.consume(frames.percentileMillis(0.99));
+        bh.consume(frames.percentileMillis(0.999));
+        bh.consume(frames.lowFps(0.01));
+        bh.consume(frames.lowFps(0.001));
+    }
+}
@@ -0,0 +1,27 @@
+package com.veltium.mixin;
+
+import com.veltium.stats.ServerTickStats;
+import net.minecraft.server.MinecraftServer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(MinecraftServer.class)
+public class MinecraftServerMixin {
+	@Inject(at = @At("HEAD"), method = "loadLevel")
+	private void init(CallbackInfo info) {
+		// New world — stats from the previous one are meaningless
+		ServerTickStats.reset();
+	}
+
+	@Inject(at = @At("HEAD"), method = "tickServer")
+	private void onTickStart(CallbackInfo info) {
+		ServerTickStats.onTickStart(System.nanoTime());
+	}
+
+	@Inject(at = @At("RETURN"), method = "tickServer")
+	private void onTickEnd(CallbackInfo info) {
+		ServerTickStats.onTickEnd(System.nanoTime());
+	}
+}
@@ -0,0 +1,58 @@
+package com.veltium.session;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+
+/**
+ * Binary layout of {@code .vses} session files, version 1.
+ * <pre>
+ * file    = magic "VSES", u8 version, varint startMillis, varint labelLength, UTF-8 label, record*
+ * record  = u8 tag, varint[8]
+ *   tag 'K' keyframe: zigzag absolute value of every field
+ *   tag 'D' delta:    zigzag difference from the previous record, field by field
+ * </pre>
+ * A keyframe is written every {@link #KEYFRAME_INTERVAL} records to bound how far a delta chain
+ * runs. Records carry no length or checksum and tag bytes also occur inside varints, so there
+ * is no way to find the next record after damage: a file cut off mid-record (crash, power loss)
+ * or with a bad record ends at the last complete record before it.
+ */
+public final class SessionFormat {
+	public static final String EXTENSION = ".vses";
+	static final byte[] MAGIC = {'V', 'S', 'E', 'S'};
+	static final int VERSION = 1;
+	static final int KEYFRAME_INTERVAL = 64;
+	static final int TAG_KEYFRAME = 'K';
+	static final int TAG_DELTA = 'D';
+
+	private SessionFormat() {}
+
+	static void writeVarLong(OutputStream out, long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int) (value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.write((int) value);
+	}
+
+	static long readVarLong(InputStream in) throws IOException {
+		long result = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = in.read();
+			if (b < 0) throw new EOFException();
+			result |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) return result;
+		}
+		throw new StreamCorruptedException("Malformed varint");
+	}
+
+	static long zigzag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	static long unzigzag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+}
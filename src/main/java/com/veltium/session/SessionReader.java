@@ -0,0 +1,68 @@
+package com.veltium.session;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads a whole session file written by {@link SessionWriter}. A truncated tail is dropped, and
+ * reading stops at the first corrupt record, keeping the samples before it.
+ */
+public final class SessionReader {
+	public record Session(long startMillis, String label, List<SessionSample> samples) {}
+
+	private SessionReader() {}
+
+	public static Session read(Path file) throws IOException {
+		try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+			return read(in);
+		}
+	}
+
+	public static Session read(InputStream in) throws IOException {
+		byte[] magic = in.readNBytes(SessionFormat.MAGIC.length);
+		if (!Arrays.equals(magic, SessionFormat.MAGIC)) throw new IOException("Not a Veltium session file");
+		int version = in.read();
+		if (version != SessionFormat.VERSION) throw new IOException("Unsupported session version " + version);
+
+		long startMillis = SessionFormat.readVarLong(in);
+		int labelLength = (int) SessionFormat.readVarLong(in);
+		String label = new String(in.readNBytes(labelLength), StandardCharsets.UTF_8);
+
+		List<SessionSample> samples = new ArrayList<>();
+		long[] values = new long[SessionSample.FIELDS];
+		boolean synced = false;
+		try {
+			int tag;
+			while ((tag = in.read()) >= 0) {
+				if (tag == SessionFormat.TAG_KEYFRAME) {
+					for (int i = 0; i < values.length; i++) {
+						values[i] = SessionFormat.unzigzag(SessionFormat.readVarLong(in));
+					}
+					synced = true;
+				} else if (tag == SessionFormat.TAG_DELTA && synced) {
+					for (int i = 0; i < values.length; i++) {
+						values[i] += SessionFormat.unzigzag(SessionFormat.readVarLong(in));
+					}
+				} else {
+					// Lost our place, and a 'K' byte could just as well be part of a varint
+					break;
+				}
+				samples.add(SessionSample.of(values));
+			}
+		} catch (EOFException ignored) {
+			// Session cut off mid-record; keep everything before it
+		} catch (StreamCorruptedException ignored) {
+			// Corrupt record; keep everything before it
+		}
+		return new Session(startMillis, label, samples);
+	}
+}
@@ -0,0 +1,31 @@
+package com.veltium.session;
+
+/**
+ * One row of a recorded session. Everything is stored as an integer so samples delta-encode
+ * well: memory in MiB, times in microseconds, server tick time in tenths of a millisecond.
+ * {@code worstFrameMicros} is the slowest frame since the previous sample, so hitches between
+ * samples are not lost.
+ */
+public record SessionSample(long timestampMillis, int fps, int frameTimeMicros, int worstFrameMicros,
+							int usedMemoryMiB, int maxMemoryMiB, int ping, int serverMsptTenths) {
+	static final int FIELDS = 8;
+
+	long field(int index) {
+		return switch (index) {
+			case 0 -> timestampMillis;
+			case 1 -> fps;
+			case 2 -> frameTimeMicros;
+			case 3 -> worstFrameMicros;
+			case 4 -> usedMemoryMiB;
+			case 5 -> maxMemoryMiB;
+			case 6 -> ping;
+			case 7 -> serverMsptTenths;
+			default -> throw new IndexOutOfBoundsException(index);
+		};
+	}
+
+	static SessionSample of(long[] fields) {
+		return new SessionSample(fields[0], (int) fields[1], (int) fields[2], (int) fields[3],
+				(int) fields[4], (int) fields[5], (int) fields[6], (int) fields[7]);
+	}
+}
@@ -0,0 +1,59 @@
+package com.veltium.session;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Appends samples to a session file in {@link SessionFormat}. Not thread-safe; owned by the
+ * thread that samples.
+ */
+public final class SessionWriter implements AutoCloseable {
+	private final OutputStream out;
+	private final long[] previous = new long[SessionSample.FIELDS];
+	private int sinceKeyframe = SessionFormat.KEYFRAME_INTERVAL;
+
+	public SessionWriter(OutputStream out, long startMillis, String label) throws IOException {
+		this.out = out;
+		byte[] labelBytes = label.getBytes(StandardCharsets.UTF_8);
+		out.write(SessionFormat.MAGIC);
+		out.write(SessionFormat.VERSION);
+		SessionFormat.writeVarLong(out, startMillis);
+		SessionFormat.writeVarLong(out, labelBytes.length);
+		out.write(labelBytes);
+	}
+
+	public static SessionWriter create(Path file, long startMillis, String label) throws IOException {
+		Files.createDirectories(file.getParent());
+		OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 16 * 1024);
+		try {
+			return new SessionWriter(out, startMillis, label);
+		} catch (IOException e) {
+			out.close();
+			throw e;
+		}
+	}
+
+	public void write(SessionSample sample) throws IOException {
+		boolean keyframe = sinceKeyframe >= SessionFormat.KEYFRAME_INTERVAL;
+		out.write(keyframe ? SessionFormat.TAG_KEYFRAME : SessionFormat.TAG_DELTA);
+		for (int i = 0; i < SessionSample.FIELDS; i++) {
+			long value = sample.field(i);
+			SessionFormat.writeVarLong(out, SessionFormat.zigzag(keyframe ? value : value - previous[i]));
+			previous[i] = value;
+		}
+		sinceKeyframe = keyframe ? 1 : sinceKeyframe + 1;
+	}
+
+	public void flush() throws IOException {
+		out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		out.close();
+	}
+}
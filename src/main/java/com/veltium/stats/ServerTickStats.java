@@ -0,0 +1,95 @@
+package com.veltium.stats;
+
+import java.util.Arrays;
+
+/**
+ * Tick profiler for the integrated (singleplayer/LAN) server. Written only from the
+ * server thread; once a second it publishes an immutable {@link Snapshot} through a
+ * volatile field, so the render thread never touches the live buffers. Every figure,
+ * including the count of ticks over budget, covers the last {@link #WINDOW} ticks.
+ */
+public final class ServerTickStats {
+	private static final int WINDOW = 200;
+	private static final int PUBLISH_EVERY = 20;
+	private static final long TICK_BUDGET_NANOS = 50_000_000L;
+
+	private static final long[] tickDurations = new long[WINDOW];
+	private static final long[] tickStarts = new long[WINDOW];
+	private static final long[] sortScratch = new long[WINDOW];
+	private static int next;
+	private static int size;
+	private static long currentTickStart;
+	private static int ticksSincePublish;
+
+	private static volatile Snapshot snapshot = Snapshot.EMPTY;
+
+	public record Snapshot(double tps, double msptAvg, double msptP95, double msptMax,
+						   int overloadedTicks, long publishedAt) {
+		public static final Snapshot EMPTY = new Snapshot(0, 0, 0, 0, 0, 0);
+
+		public boolean isEmpty() {
+			return publishedAt == 0;
+		}
+	}
+
+	private ServerTickStats() {}
+
+	public static Snapshot snapshot() {
+		return snapshot;
+	}
+
+	public static void reset() {
+		next = 0;
+		size = 0;
+		currentTickStart = 0;
+		ticksSincePublish = 0;
+		snapshot = Snapshot.EMPTY;
+	}
+
+	public static void onTickStart(long now) {
+		currentTickStart = now;
+	}
+
+	public static void onTickEnd(long now) {
+		if (currentTickStart == 0) return;
+
+		long duration = now - currentTickStart;
+		tickDurations[next] = duration;
+		tickStarts[next] = currentTickStart;
+		next = next + 1 == WINDOW ? 0 : next + 1;
+		if (size < WINDOW) size++;
+
+		if (++ticksSincePublish >= PUBLISH_EVERY) {
+			ticksSincePublish = 0;
+			publish(now);
+		}
+	}
+
+	private static void publish(long now) {
+		if (size < 2) return;
+
+		System.arraycopy(tickDurations, 0, sortScratch, 0, size);
+		Arrays.sort(sortScratch, 0, size);
+
+		long total = 0;
+		int overloadedTicks = 0;
+		for (int i = 0; i < size; i++) {
+			total += sortScratch[i];
+			if (sortScratch[i] > TICK_BUDGET_NANOS) overloadedTicks++;
+		}
+
+		int newest = next == 0 ? WINDOW - 1 : next - 1;
+		int oldest = size < WINDOW ? 0 : next;
+		long span = tickStarts[newest] - tickStarts[oldest];
+		double tps = span > 0 ? (size - 1) * 1_000_000_000.0 / span : 0;
+
+		int p95 = Math.min(size - 1, (int) Math.ceil(size * 0.95) - 1);
+		snapshot = new Snapshot(
+				tps,
+				total / (double) size / 1_000_000.0,
+				sortScratch[p95] / 1_000_000.0,
+				sortScratch[size - 1] / 1_000_000.0,
+				overloadedTicks,
+				now);
+	}
+}